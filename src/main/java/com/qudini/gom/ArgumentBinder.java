@@ -0,0 +1,259 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+final class ArgumentBinder {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<ArgumentBinder> BINDERS = new ClassValue<ArgumentBinder>() {
+
+        @Override
+        protected ArgumentBinder computeValue(Class<?> clazz) {
+            return compile(clazz);
+        }
+
+    };
+
+    private static final Map<Class<?>, Function<Number, Object>> NUMBER_CONVERTERS = new HashMap<>();
+
+    static {
+        NUMBER_CONVERTERS.put(byte.class, Number::byteValue);
+        NUMBER_CONVERTERS.put(Byte.class, Number::byteValue);
+        NUMBER_CONVERTERS.put(short.class, Number::shortValue);
+        NUMBER_CONVERTERS.put(Short.class, Number::shortValue);
+        NUMBER_CONVERTERS.put(int.class, Number::intValue);
+        NUMBER_CONVERTERS.put(Integer.class, Number::intValue);
+        NUMBER_CONVERTERS.put(long.class, Number::longValue);
+        NUMBER_CONVERTERS.put(Long.class, Number::longValue);
+        NUMBER_CONVERTERS.put(float.class, Number::floatValue);
+        NUMBER_CONVERTERS.put(Float.class, Number::floatValue);
+        NUMBER_CONVERTERS.put(double.class, Number::doubleValue);
+        NUMBER_CONVERTERS.put(Double.class, Number::doubleValue);
+    }
+
+    @FunctionalInterface
+    private interface Binding {
+
+        Object bind(Map<String, Object> arguments) throws Throwable;
+
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class Property {
+
+        private final String name;
+
+        private final Function<Object, Object> converter;
+
+        private final MethodHandle setter;
+
+        private final Object defaultValue;
+
+    }
+
+    private final Binding binding;
+
+    @SneakyThrows
+    Object bind(Map<String, Object> arguments) {
+        return binding.bind(arguments);
+    }
+
+    static ArgumentBinder of(Class<?> clazz) {
+        return BINDERS.get(clazz);
+    }
+
+    static ArgumentBinder of(Parameter parameter, Args args) {
+        if (args.value().isEmpty()) {
+            return of(parameter.getType());
+        }
+        String name = args.value();
+        Class<?> elementType = getRawType(getElementType(parameter.getParameterizedType()));
+        // custom scalars and other plain values reach the converter as they are, so only precompile
+        // the element types that an input object could actually be bound to
+        if (isBindable(elementType) && hasBinding(elementType)) {
+            of(elementType);
+        }
+        Function<Object, Object> converter = getConverter(parameter.getParameterizedType());
+        return new ArgumentBinder(arguments -> converter.apply(arguments.get(name)));
+    }
+
+    private static ArgumentBinder compile(Class<?> clazz) {
+        List<Field> fields = getBindableFields(clazz);
+        if (fields.isEmpty()) {
+            throw new IllegalStateException(format("No bindable fields found on %s", clazz));
+        }
+        Optional<Constructor<?>> defaultConstructor = getDefaultConstructor(clazz);
+        if (defaultConstructor.isPresent()) {
+            return compileSetterBinding(defaultConstructor.get(), fields);
+        }
+        Optional<Constructor<?>> allFieldsConstructor = getAllFieldsConstructor(clazz, fields);
+        if (allFieldsConstructor.isPresent()) {
+            return compileConstructorBinding(allFieldsConstructor.get(), fields);
+        }
+        throw new IllegalStateException(format(
+                "Cannot bind arguments to %s: expected a no-argument constructor or a constructor taking all fields in declaration order",
+                clazz
+        ));
+    }
+
+    private static boolean hasBinding(Class<?> clazz) {
+        List<Field> fields = getBindableFields(clazz);
+        return !fields.isEmpty()
+                && (getDefaultConstructor(clazz).isPresent() || getAllFieldsConstructor(clazz, fields).isPresent());
+    }
+
+    private static Optional<Constructor<?>> getDefaultConstructor(Class<?> clazz) {
+        return Arrays
+                .stream(clazz.getDeclaredConstructors())
+                .filter(constructor -> constructor.getParameterCount() == 0)
+                .findFirst();
+    }
+
+    private static Optional<Constructor<?>> getAllFieldsConstructor(Class<?> clazz, List<Field> fields) {
+        Class<?>[] fieldTypes = fields.stream().map(Field::getType).toArray(Class<?>[]::new);
+        return Arrays
+                .stream(clazz.getDeclaredConstructors())
+                .filter(constructor -> Arrays.equals(constructor.getParameterTypes(), fieldTypes))
+                .findFirst();
+    }
+
+    @SneakyThrows
+    private static ArgumentBinder compileSetterBinding(Constructor<?> constructor, List<Field> fields) {
+        constructor.setAccessible(true);
+        MethodHandle instantiator = LOOKUP.unreflectConstructor(constructor).asType(methodType(Object.class));
+        Property[] properties = new Property[fields.size()];
+        for (int i = 0; i < properties.length; i++) {
+            Field field = fields.get(i);
+            field.setAccessible(true);
+            MethodHandle setter = LOOKUP
+                    .unreflectSetter(field)
+                    .asType(methodType(void.class, Object.class, Object.class));
+            properties[i] = newProperty(field, setter);
+        }
+        return new ArgumentBinder(arguments -> {
+            Object instance = (Object) instantiator.invokeExact();
+            for (Property property : properties) {
+                Object value = arguments.get(property.name);
+                if (value != null) {
+                    property.setter.invokeExact(instance, property.converter.apply(value));
+                }
+            }
+            return instance;
+        });
+    }
+
+    @SneakyThrows
+    private static ArgumentBinder compileConstructorBinding(Constructor<?> constructor, List<Field> fields) {
+        constructor.setAccessible(true);
+        MethodHandle instantiator = LOOKUP
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, fields.size())
+                .asType(methodType(Object.class, Object[].class));
+        Property[] properties = fields
+                .stream()
+                .map(field -> newProperty(field, null))
+                .toArray(Property[]::new);
+        return new ArgumentBinder(arguments -> {
+            Object[] values = new Object[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                Object value = arguments.get(properties[i].name);
+                values[i] = value == null ? properties[i].defaultValue : properties[i].converter.apply(value);
+            }
+            return (Object) instantiator.invokeExact(values);
+        });
+    }
+
+    private static Property newProperty(Field field, MethodHandle setter) {
+        Object defaultValue = field.getType().isPrimitive()
+                ? Array.get(Array.newInstance(field.getType(), 1), 0)
+                : null;
+        return new Property(field.getName(), getConverter(field.getGenericType()), setter, defaultValue);
+    }
+
+    private static List<Field> getBindableFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        if (clazz.getSuperclass() != null) {
+            fields.addAll(getBindableFields(clazz.getSuperclass()));
+        }
+        for (Field field : clazz.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!field.isSynthetic() && !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static Function<Object, Object> getConverter(Type type) {
+        Class<?> clazz = getRawType(type);
+        final Function<Object, Object> converter;
+        Function<Number, Object> numberConverter = NUMBER_CONVERTERS.get(clazz);
+        if (numberConverter != null) {
+            // GraphQL only has Int (Integer) and Float (Double)
+            converter = value -> value instanceof Number ? numberConverter.apply((Number) value) : value;
+        } else if (clazz.isEnum()) {
+            converter = value -> value instanceof String ? Enums.valueOf((Class) clazz, (String) value) : value;
+        } else if (Collection.class.isAssignableFrom(clazz) && type instanceof ParameterizedType) {
+            Function<Object, Object> elementConverter = getConverter(((ParameterizedType) type).getActualTypeArguments()[0]);
+            converter = value -> value instanceof Collection
+                    ? ((Collection<?>) value).stream().map(elementConverter).collect(toList())
+                    : value;
+        } else if (isBindable(clazz)) {
+            converter = value -> value instanceof Map ? of(clazz).bind((Map<String, Object>) value) : value;
+        } else {
+            converter = value -> value;
+        }
+        return value -> value == null ? null : converter.apply(value);
+    }
+
+    private static Type getElementType(Type type) {
+        return Collection.class.isAssignableFrom(getRawType(type)) && type instanceof ParameterizedType
+                ? getElementType(((ParameterizedType) type).getActualTypeArguments()[0])
+                : type;
+    }
+
+    private static Class<?> getRawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return getRawType(((ParameterizedType) type).getRawType());
+        } else {
+            return Object.class;
+        }
+    }
+
+    private static boolean isBindable(Class<?> clazz) {
+        return !clazz.isPrimitive()
+                && !clazz.isArray()
+                && !clazz.isInterface()
+                && !Modifier.isAbstract(clazz.getModifiers())
+                && !clazz.getName().startsWith("java.");
+    }
+
+}
@@ -9,4 +9,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Retention(RUNTIME)
 @Target(METHOD)
 public @interface Batched {
+
+    boolean mergeSelections() default false;
+
 }
@@ -0,0 +1,46 @@
+package com.qudini.gom;
+
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+final class BlockingExecutors {
+
+    private static final String THREAD_NAME_PREFIX = "gom-blocking-";
+
+    /*
+     * Looked up reflectively so that the Java 8 baseline still compiles,
+     * while Java 21+ runtimes get one cheap virtual thread per blocking call.
+     */
+    private static Optional<Executor> newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((Executor) factory.invoke(null));
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            // not available (Java < 21) or not enabled (preview on Java 19/20)
+            return Optional.empty();
+        }
+    }
+
+    private static Executor newPlatformThreadPerTaskExecutor() {
+        AtomicInteger threadCount = new AtomicInteger(0);
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static Executor newBlockingExecutor() {
+        return newVirtualThreadPerTaskExecutor().orElseGet(BlockingExecutors::newPlatformThreadPerTaskExecutor);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.qudini.gom;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+
+import static lombok.AccessLevel.PACKAGE;
+import static lombok.EqualsAndHashCode.CacheStrategy.LAZY;
+
+@RequiredArgsConstructor(access = PACKAGE)
+@EqualsAndHashCode(cacheStrategy = LAZY)
+final class CacheKey implements Serializable {
+
+    // persisted by the persistent cache, so it mustn't change between releases unless the serialized form does
+    private static final long serialVersionUID = 1L;
+
+    private final String field;
+
+    private final Object source;
+
+    private final Arguments arguments;
+
+    private final Selection selection;
+
+    @Override
+    public String toString() {
+        return field + "(" + source + ", " + arguments + ", " + selection + ")";
+    }
+
+}
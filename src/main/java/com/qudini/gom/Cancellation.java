@@ -0,0 +1,96 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.qudini.gom.Schedulers.scheduler;
+import static java.util.Collections.newSetFromMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public final class Cancellation {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private static final Cancellation NONE = new Cancellation(false, NO_DEADLINE);
+
+    private final boolean cancellable;
+
+    private final long deadlineNanos;
+
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    private final Set<CompletableFuture<?>> futures = newSetFromMap(new ConcurrentHashMap<>());
+
+    private volatile ScheduledFuture<?> deadlineTimer;
+
+    public void cancel() {
+        if (!cancellable) {
+            throw new UnsupportedOperationException("This cancellation cannot be cancelled");
+        }
+        if (cancelled.compareAndSet(false, true)) {
+            ScheduledFuture<?> timer = deadlineTimer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            futures.forEach(future -> future.cancel(true));
+            futures.clear();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get() || deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException("The GraphQL query has been cancelled");
+        }
+    }
+
+    @Nonnull
+    public Optional<Duration> getRemainingTime() {
+        return deadlineNanos == NO_DEADLINE
+                ? Optional.empty()
+                : Optional.of(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())));
+    }
+
+    <T> CompletableFuture<T> propagateTo(CompletableFuture<T> future) {
+        if (cancellable && !future.isDone()) {
+            futures.add(future);
+            future.whenComplete((result, error) -> futures.remove(future));
+            if (isCancelled()) {
+                future.cancel(true);
+            }
+        }
+        return future;
+    }
+
+    @Nonnull
+    public static Cancellation newCancellation() {
+        return new Cancellation(true, NO_DEADLINE);
+    }
+
+    @Nonnull
+    public static Cancellation newCancellation(Duration timeout) {
+        Cancellation cancellation = new Cancellation(true, System.nanoTime() + timeout.toNanos());
+        cancellation.deadlineTimer = scheduler().schedule(cancellation::cancel, timeout.toNanos(), NANOSECONDS);
+        return cancellation;
+    }
+
+    @Nonnull
+    public static Cancellation none() {
+        return NONE;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.qudini.gom;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface CircuitBreaker {
+
+    double failureRate() default 50;
+
+    int window() default 100;
+
+    int minCalls() default 20;
+
+    long openFor() default 30;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    String fallback() default "";
+
+}
@@ -0,0 +1,94 @@
+package com.qudini.gom;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class CircuitBreakerState {
+
+    private static final int NONE = 0;
+
+    private static final int SUCCESS = 1;
+
+    private static final int FAILURE = 2;
+
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private static final long HALF_OPEN = Long.MIN_VALUE + 1;
+
+    private final double failureRate;
+
+    private final int minCalls;
+
+    private final long openNanos;
+
+    private final AtomicIntegerArray outcomes;
+
+    private final AtomicLong position = new AtomicLong();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final AtomicLong openedAt = new AtomicLong(CLOSED);
+
+    CircuitBreakerState(CircuitBreaker circuitBreaker) {
+        this.failureRate = circuitBreaker.failureRate();
+        this.minCalls = Math.max(1, circuitBreaker.minCalls());
+        this.openNanos = circuitBreaker.unit().toNanos(circuitBreaker.openFor());
+        this.outcomes = new AtomicIntegerArray(Math.max(1, circuitBreaker.window()));
+    }
+
+    boolean tryAcquire() {
+        long state = openedAt.get();
+        if (state == CLOSED) {
+            return true;
+        } else if (state == HALF_OPEN) {
+            return false;
+        } else {
+            return System.nanoTime() - state >= openNanos && openedAt.compareAndSet(state, HALF_OPEN);
+        }
+    }
+
+    void onSuccess() {
+        if (openedAt.get() == HALF_OPEN) {
+            for (int i = 0; i < outcomes.length(); i++) {
+                record(i, NONE);
+            }
+            openedAt.set(CLOSED);
+        } else {
+            record(SUCCESS);
+        }
+    }
+
+    void onFailure() {
+        if (openedAt.compareAndSet(HALF_OPEN, System.nanoTime())) {
+            return;
+        }
+        record(FAILURE);
+        int currentCalls = calls.get();
+        if (currentCalls >= minCalls && failures.get() * 100.0 / currentCalls >= failureRate) {
+            openedAt.compareAndSet(CLOSED, System.nanoTime());
+        }
+    }
+
+    void onCancellation() {
+        // the trial call tells nothing about the field's health, so the next call gets to try again
+        openedAt.compareAndSet(HALF_OPEN, System.nanoTime() - openNanos);
+    }
+
+    private void record(int outcome) {
+        record((int) (position.getAndIncrement() % outcomes.length()), outcome);
+    }
+
+    private void record(int index, int outcome) {
+        int previousOutcome = outcomes.getAndSet(index, outcome);
+        calls.addAndGet(count(outcome != NONE) - count(previousOutcome != NONE));
+        failures.addAndGet(count(outcome == FAILURE) - count(previousOutcome == FAILURE));
+    }
+
+    private static int count(boolean condition) {
+        return condition ? 1 : 0;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.qudini.gom;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public final class Connection<T> {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class Edge<T> {
+
+        private final String cursor;
+
+        private final T node;
+
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class PageInfo {
+
+        private final boolean hasNextPage;
+
+        private final boolean hasPreviousPage;
+
+        private final String startCursor;
+
+        private final String endCursor;
+
+    }
+
+    @Getter
+    private final List<Edge<T>> edges;
+
+    @Getter
+    private final PageInfo pageInfo;
+
+    private final Supplier<Integer> totalCount;
+
+    @Nonnull
+    public List<T> getNodes() {
+        return edges.stream().map(Edge::getNode).collect(toList());
+    }
+
+    @Nullable
+    public Integer getTotalCount() {
+        return totalCount.get();
+    }
+
+    @Nonnull
+    public Connection<T> withTotalCount(Supplier<Integer> totalCount) {
+        return new Connection<>(edges, pageInfo, totalCount);
+    }
+
+    @Nonnull
+    public <R> Connection<R> map(Function<T, R> mapper) {
+        List<Edge<R>> mappedEdges = edges
+                .stream()
+                .map(edge -> new Edge<>(edge.cursor, mapper.apply(edge.node)))
+                .collect(toList());
+        return new Connection<>(mappedEdges, pageInfo, totalCount);
+    }
+
+    @Nonnull
+    public static <T> Connection<T> of(List<T> fetchedNodes, Pagination pagination, Function<T, String> cursor) {
+        boolean hasMore = fetchedNodes.size() > pagination.getSize();
+        List<T> nodes = new ArrayList<>(hasMore ? fetchedNodes.subList(0, pagination.getSize()) : fetchedNodes);
+        if (pagination.isBackward()) {
+            Collections.reverse(nodes);
+        }
+        List<Edge<T>> edges = nodes
+                .stream()
+                .map(node -> new Edge<>(cursor.apply(node), node))
+                .collect(toList());
+        PageInfo pageInfo = new PageInfo(
+                pagination.isBackward() ? pagination.getBefore().isPresent() : hasMore,
+                pagination.isBackward() ? hasMore : pagination.getAfter().isPresent(),
+                edges.isEmpty() ? null : edges.get(0).getCursor(),
+                edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor()
+        );
+        return new Connection<>(Collections.unmodifiableList(edges), pageInfo, () -> null);
+    }
+
+}
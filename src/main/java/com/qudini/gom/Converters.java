@@ -78,7 +78,13 @@ public final class Converters {
                 .findFirst()
                 .map(converter -> converter.convert(value, context))
                 .map(object -> convert(object, context))
-                .orElse(completedFuture(value));
+                .orElseGet(() -> completedFuture(LazyIterable.wrap(value, false)));
+    }
+
+    boolean canConvert(Class<?> clazz) {
+        return converters
+                .stream()
+                .anyMatch(converter -> converter.clazz.isAssignableFrom(clazz) || clazz.isAssignableFrom(converter.clazz));
     }
 
     @Nonnull
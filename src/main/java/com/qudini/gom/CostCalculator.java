@@ -0,0 +1,49 @@
+package com.qudini.gom;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.FieldCoordinates;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+import static graphql.schema.FieldCoordinates.coordinates;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+final class CostCalculator implements FieldComplexityCalculator {
+
+    private static final int DEFAULT_COST = 1;
+
+    private final Map<FieldCoordinates, Cost> costs;
+
+    private int getMultiplier(Cost cost, FieldComplexityEnvironment environment) {
+        if (cost.multiplierArgument().isEmpty()) {
+            return 1;
+        }
+        Object multiplier = environment.getArguments().get(cost.multiplierArgument());
+        return multiplier instanceof Number
+                ? Math.max(0, ((Number) multiplier).intValue())
+                : 1;
+    }
+
+    @Override
+    public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+        Cost cost = costs.get(coordinates(
+                environment.getParentType().getName(),
+                environment.getFieldDefinition().getName()
+        ));
+        // a negative child complexity can only come from siblings that overflowed when summed by graphql-java
+        long saturatedChildComplexity = childComplexity < 0 ? Integer.MAX_VALUE : childComplexity;
+        long complexity = cost == null
+                ? DEFAULT_COST + saturatedChildComplexity
+                : (cost.value() + saturatedChildComplexity) * getMultiplier(cost, environment);
+        // saturated, so that huge multipliers get the query rejected as over budget rather than overflowing
+        return saturate(complexity);
+    }
+
+    static int saturate(long complexity) {
+        return (int) Math.min(complexity, Integer.MAX_VALUE);
+    }
+
+}
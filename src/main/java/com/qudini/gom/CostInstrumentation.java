@@ -0,0 +1,95 @@
+package com.qudini.gom;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.QueryComplexityInfo;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.schema.GraphQLCompositeType;
+import graphql.validation.ValidationError;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static graphql.analysis.QueryComplexityInfo.newQueryComplexityInfo;
+import static java.lang.String.format;
+import static lombok.AccessLevel.PACKAGE;
+
+/*
+ * graphql-java's MaxQueryComplexityInstrumentation sums the complexities of sibling fields as ints, so that a few aliased
+ * fields with huge multipliers wrap around to a negative total and get let through. The same traversal is done here, but
+ * summing as longs.
+ */
+@RequiredArgsConstructor(access = PACKAGE)
+final class CostInstrumentation extends SimpleInstrumentation {
+
+    private final int budget;
+
+    private final FieldComplexityCalculator calculator;
+
+    private final Function<QueryComplexityInfo, Boolean> budgetExceeded;
+
+    @Override
+    public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters) {
+        return SimpleInstrumentationContext.whenCompleted((errors, throwable) -> {
+            if ((errors != null && !errors.isEmpty()) || throwable != null) {
+                return;
+            }
+            long complexity = getComplexity(parameters);
+            if (complexity > budget
+                    && budgetExceeded.apply(newQueryComplexityInfo().complexity(CostCalculator.saturate(complexity)).build())) {
+                throw new AbortExecutionException(format("maximum query complexity exceeded %d > %d", complexity, budget));
+            }
+        });
+    }
+
+    private long getComplexity(InstrumentationValidationParameters parameters) {
+        Map<QueryVisitorFieldEnvironment, Long> childComplexities = new HashMap<>();
+        QueryTraverser
+                .newQueryTraverser()
+                .schema(parameters.getSchema())
+                .document(parameters.getDocument())
+                .operationName(parameters.getOperation())
+                .variables(parameters.getVariables())
+                .build()
+                .visitPostOrder(new QueryVisitorStub() {
+
+                    @Override
+                    public void visitField(QueryVisitorFieldEnvironment environment) {
+                        if (environment.isTypeNameIntrospectionField()) {
+                            return;
+                        }
+                        long childComplexity = childComplexities.getOrDefault(environment, 0L);
+                        long complexity = calculator.calculate(
+                                toComplexityEnvironment(environment),
+                                CostCalculator.saturate(childComplexity)
+                        );
+                        childComplexities.merge(environment.getParentEnvironment(), complexity, Long::sum);
+                    }
+
+                });
+        return childComplexities.getOrDefault(null, 0L);
+    }
+
+    @Nullable
+    private static FieldComplexityEnvironment toComplexityEnvironment(@Nullable QueryVisitorFieldEnvironment environment) {
+        return environment == null ? null : new FieldComplexityEnvironment(
+                environment.getField(),
+                environment.getFieldDefinition(),
+                (GraphQLCompositeType) environment.getFieldsContainer(),
+                environment.getArguments(),
+                toComplexityEnvironment(environment.getParentEnvironment())
+        );
+    }
+
+}
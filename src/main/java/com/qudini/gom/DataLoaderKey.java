@@ -5,8 +5,11 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import static java.lang.System.identityHashCode;
+import static java.util.Collections.emptyMap;
 import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
+import static lombok.EqualsAndHashCode.CacheStrategy.LAZY;
 
 @Getter(PACKAGE)
 @EqualsAndHashCode
@@ -14,7 +17,7 @@ final class DataLoaderKey {
 
     @RequiredArgsConstructor(access = PRIVATE)
     @Getter(PACKAGE)
-    @EqualsAndHashCode
+    @EqualsAndHashCode(cacheStrategy = LAZY)
     static final class Discriminator {
 
         private final Arguments arguments;
@@ -23,19 +26,66 @@ final class DataLoaderKey {
 
     }
 
+    @RequiredArgsConstructor(access = PRIVATE)
+    static final class IdentityKey {
+
+        private final DataLoaderKey key;
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            DataLoaderKey otherKey = ((IdentityKey) other).key;
+            return key.source == otherKey.source
+                    && key.context == otherKey.context
+                    && key.discriminator.equals(otherKey.discriminator);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * identityHashCode(key.source) + identityHashCode(key.context)) + key.discriminator.hashCode();
+        }
+
+    }
+
     private final Object source;
 
     private final Discriminator discriminator;
 
     private final Object context;
 
+    private DataLoaderKey(Object source, Discriminator discriminator, Object context) {
+        this.source = source;
+        this.discriminator = discriminator;
+        this.context = context;
+    }
+
     DataLoaderKey(DataFetchingEnvironment environment, int selectionDepth) {
         this.source = environment.getSource();
         this.discriminator = new Discriminator(
-                new DefaultArguments(environment),
-                new DefaultSelection(environment, selectionDepth)
+                DefaultArguments.canonical(environment.getArguments()),
+                DefaultSelection.canonical(environment, selectionDepth)
         );
         this.context = environment.getContext();
     }
 
+    IdentityKey toIdentityKey() {
+        return new IdentityKey(this);
+    }
+
+    static DataLoaderKey byArguments(DataFetchingEnvironment environment, int selectionDepth) {
+        return new DataLoaderKey(
+                DefaultArguments.canonical(environment.getArguments()),
+                new Discriminator(
+                        DefaultArguments.canonical(emptyMap()),
+                        DefaultSelection.canonical(environment, selectionDepth)
+                ),
+                environment.getContext()
+        );
+    }
+
 }
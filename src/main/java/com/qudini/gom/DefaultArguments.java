@@ -2,25 +2,41 @@ package com.qudini.gom;
 
 import graphql.schema.DataFetchingEnvironment;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 
 import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
-import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
+import static lombok.EqualsAndHashCode.CacheStrategy.LAZY;
+import static lombok.AccessLevel.PACKAGE;
 
-@EqualsAndHashCode
-final class DefaultArguments implements Arguments {
+@EqualsAndHashCode(cacheStrategy = LAZY)
+final class DefaultArguments implements Arguments, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private static final String UNEXPECTED_NULL_ARGUMENT_MESSAGE_FORMAT = "'%s' must not be null";
 
+    private static final Interner<DefaultArguments> INTERNER = new Interner<>();
+
+    @Getter(PACKAGE)
     private final Map<String, Object> arguments;
 
+    @EqualsAndHashCode.Exclude
+    private transient volatile Map<String, Object> memoizedInputs;
+
     DefaultArguments(Map<String, Object> arguments) {
         this.arguments = unmodifiableMap(arguments);
     }
@@ -29,14 +45,55 @@ final class DefaultArguments implements Arguments {
         this(environment.getArguments());
     }
 
+    static DefaultArguments canonical(Map<String, Object> arguments) {
+        return INTERNER.intern(new DefaultArguments((Map<String, Object>) canonicalize(arguments)));
+    }
+
+    private static Object canonicalize(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((key, entry) -> map.put(key, canonicalize(entry)));
+            return unmodifiableMap(map);
+        } else if (value instanceof List) {
+            return unmodifiableList(((List<?>) value).stream().map(DefaultArguments::canonicalize).collect(toList()));
+        } else {
+            return value;
+        }
+    }
+
     private <T> T getNull(String name) {
         return (T) arguments.get(name);
     }
 
+    private static <T> T requireNonNullArgument(T value, String name) {
+        if (value == null) {
+            throw new NullPointerException(format(UNEXPECTED_NULL_ARGUMENT_MESSAGE_FORMAT, name));
+        }
+        return value;
+    }
+
+    private <T> T getNullMemoizedInput(String name, Function<Object, Object> inputFactory) {
+        Object value = arguments.get(name);
+        if (value == null) {
+            return null;
+        }
+        Map<String, Object> inputs = memoizedInputs;
+        if (inputs == null) {
+            inputs = new ConcurrentHashMap<>();
+            memoizedInputs = inputs;
+        }
+        Object input = inputs.get(name);
+        if (input == null) {
+            input = inputFactory.apply(value);
+            inputs.put(name, input);
+        }
+        return (T) input;
+    }
+
     @Override
     @Nonnull
     public <T> T get(String name) {
-        return requireNonNull(getNull(name), format(UNEXPECTED_NULL_ARGUMENT_MESSAGE_FORMAT, name));
+        return requireNonNullArgument(getNull(name), name);
     }
 
     @Override
@@ -55,13 +112,13 @@ final class DefaultArguments implements Arguments {
 
     private <T extends Enum<T>> T getNullEnum(String name, Class<T> clazz) {
         String key = getNull(name);
-        return key == null ? null : Enum.valueOf(clazz, key);
+        return key == null ? null : Enums.valueOf(clazz, key);
     }
 
     @Override
     @Nonnull
     public <T extends Enum<T>> T getEnum(String name, Class<T> clazz) {
-        return requireNonNull(getNullEnum(name, clazz), format(UNEXPECTED_NULL_ARGUMENT_MESSAGE_FORMAT, name));
+        return requireNonNullArgument(getNullEnum(name, clazz), name);
     }
 
     @Override
@@ -80,13 +137,20 @@ final class DefaultArguments implements Arguments {
 
     private <T extends Enum<T>> List<T> getNullEnumArray(String name, Class<T> clazz) {
         List<String> inputArray = getNull(name);
-        return inputArray == null ? null : inputArray.stream().map(key -> Enum.valueOf(clazz, key)).collect(toList());
+        if (inputArray == null) {
+            return null;
+        }
+        List<T> enumArray = new ArrayList<>(inputArray.size());
+        for (String key : inputArray) {
+            enumArray.add(Enums.valueOf(clazz, key));
+        }
+        return enumArray;
     }
 
     @Nonnull
     @Override
     public <T extends Enum<T>> List<T> getEnumArray(String name, Class<T> clazz) {
-        return requireNonNull(getNullEnumArray(name, clazz), format(UNEXPECTED_NULL_ARGUMENT_MESSAGE_FORMAT, name));
+        return requireNonNullArgument(getNullEnumArray(name, clazz), name);
     }
 
     @Override
@@ -104,14 +168,13 @@ final class DefaultArguments implements Arguments {
     }
 
     private Arguments getNullInput(String name) {
-        Map<String, Object> input = getNull(name);
-        return input == null ? null : new DefaultArguments(input);
+        return getNullMemoizedInput(name, DefaultArguments::newInput);
     }
 
     @Override
     @Nonnull
     public Arguments getInput(String name) {
-        return requireNonNull(getNullInput(name), format(UNEXPECTED_NULL_ARGUMENT_MESSAGE_FORMAT, name));
+        return requireNonNullArgument(getNullInput(name), name);
     }
 
     @Override
@@ -129,14 +192,13 @@ final class DefaultArguments implements Arguments {
     }
 
     private List<Arguments> getNullInputArray(String name) {
-        List<Map<String, Object>> inputArray = getNull(name);
-        return inputArray == null ? null : inputArray.stream().map(DefaultArguments::new).collect(toList());
+        return getNullMemoizedInput(name, DefaultArguments::newInputArray);
     }
 
     @Override
     @Nonnull
     public List<Arguments> getInputArray(String name) {
-        return requireNonNull(getNullInputArray(name), format(UNEXPECTED_NULL_ARGUMENT_MESSAGE_FORMAT, name));
+        return requireNonNullArgument(getNullInputArray(name), name);
     }
 
     @Override
@@ -163,4 +225,15 @@ final class DefaultArguments implements Arguments {
         return arguments.toString();
     }
 
+    private static Object newInput(Object input) {
+        return new DefaultArguments((Map<String, Object>) input);
+    }
+
+    private static Object newInputArray(Object inputArray) {
+        return unmodifiableList(((List<Map<String, Object>>) inputArray)
+                .stream()
+                .map(DefaultArguments::new)
+                .collect(toList()));
+    }
+
 }
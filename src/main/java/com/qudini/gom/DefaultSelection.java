@@ -4,6 +4,8 @@ import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.SelectedField;
 import lombok.EqualsAndHashCode;
 
+import java.io.Serializable;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.IntStream;
@@ -11,11 +13,17 @@ import java.util.stream.Stream;
 
 import static java.lang.String.join;
 import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static lombok.EqualsAndHashCode.CacheStrategy.LAZY;
 
-@EqualsAndHashCode
-final class DefaultSelection implements Selection {
+@EqualsAndHashCode(cacheStrategy = LAZY)
+final class DefaultSelection implements Selection, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Interner<DefaultSelection> INTERNER = new Interner<>();
 
     private final Set<String> fields;
 
@@ -31,7 +39,15 @@ final class DefaultSelection implements Selection {
                 .getFields(firstGlob, globs.toArray(new String[0]))
                 .stream()
                 .map(SelectedField::getQualifiedName)
-                .collect(toSet());
+                .collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
+    }
+
+    static DefaultSelection union(Stream<Selection> selections) {
+        return new DefaultSelection(selections.flatMap(Selection::stream).collect(toSet()));
+    }
+
+    static DefaultSelection canonical(DataFetchingEnvironment environment, int depth) {
+        return INTERNER.intern(new DefaultSelection(environment, depth));
     }
 
     @Override
@@ -0,0 +1,36 @@
+package com.qudini.gom;
+
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+final class Enums {
+
+    private static final ClassValue<Map<String, Enum<?>>> CONSTANTS_BY_NAME = new ClassValue<Map<String, Enum<?>>>() {
+
+        @Override
+        protected Map<String, Enum<?>> computeValue(Class<?> clazz) {
+            Map<String, Enum<?>> constantsByName = new HashMap<>();
+            for (Object constant : clazz.getEnumConstants()) {
+                Enum<?> enumConstant = (Enum<?>) constant;
+                constantsByName.put(enumConstant.name(), enumConstant);
+            }
+            return constantsByName;
+        }
+
+    };
+
+    static <T extends Enum<T>> T valueOf(Class<T> clazz, String name) {
+        Enum<?> constant = CONSTANTS_BY_NAME.get(clazz).get(name);
+        if (constant == null) {
+            throw new IllegalArgumentException(format("No enum constant %s.%s", clazz.getCanonicalName(), name));
+        }
+        return (T) constant;
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PACKAGE;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+final class EventPublisher implements Publisher<Object> {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class ConvertingSubscriber implements Subscriber<Object>, Subscription {
+
+        private final Subscriber<? super Object> downstream;
+
+        private final Function<Object, CompletableFuture<Object>> converter;
+
+        private final Cancellation cancellation;
+
+        private final Queue<CompletableFuture<Object>> pendingEvents = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger drainRequests = new AtomicInteger(0);
+
+        private final CompletableFuture<Void> termination = new CompletableFuture<>();
+
+        private Subscription upstream;
+
+        private volatile boolean upstreamDone;
+
+        private volatile Throwable upstreamError;
+
+        private volatile Throwable cancellationError;
+
+        private volatile boolean downstreamCancelled;
+
+        private volatile boolean terminated;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            // registered once subscribed, as an already cancelled query calls back right away
+            cancellation
+                    .propagateTo(termination)
+                    .whenComplete((x, throwable) -> {
+                        if (throwable != null) {
+                            cancellationError = throwable;
+                            drain();
+                        }
+                    });
+        }
+
+        @Override
+        public void onNext(Object event) {
+            CompletableFuture<Object> convertedEvent;
+            try {
+                convertedEvent = converter.apply(event);
+            } catch (RuntimeException e) {
+                convertedEvent = new CompletableFuture<>();
+                convertedEvent.completeExceptionally(e);
+            }
+            pendingEvents.offer(convertedEvent);
+            convertedEvent.whenComplete((x, y) -> drain());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (upstreamError == null) {
+                upstreamError = throwable;
+            }
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            downstreamCancelled = true;
+            upstream.cancel();
+            termination.complete(null);
+            drain();
+        }
+
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!terminated) {
+                    if (downstreamCancelled) {
+                        terminated = true;
+                        break;
+                    } else if (cancellationError != null) {
+                        upstream.cancel();
+                        terminate(cancellationError);
+                        break;
+                    }
+                    CompletableFuture<Object> pendingEvent = pendingEvents.peek();
+                    if (pendingEvent == null) {
+                        if (upstreamDone) {
+                            terminate(upstreamError);
+                        }
+                        break;
+                    } else if (!pendingEvent.isDone()) {
+                        break;
+                    }
+                    pendingEvents.poll();
+                    Object convertedEvent;
+                    try {
+                        convertedEvent = pendingEvent.join();
+                    } catch (CompletionException | CancellationException e) {
+                        upstream.cancel();
+                        terminate(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                        break;
+                    }
+                    if (convertedEvent == null) {
+                        // nothing to deliver, but the demand it was emitted for still stands
+                        upstream.request(1);
+                    } else {
+                        downstream.onNext(convertedEvent);
+                    }
+                }
+                if (terminated) {
+                    // only ever cleared here, as events can still be offered once terminated
+                    pendingEvents.clear();
+                }
+            } while (drainRequests.decrementAndGet() != 0);
+        }
+
+        private void terminate(Throwable throwable) {
+            terminated = true;
+            termination.complete(null);
+            if (throwable == null) {
+                downstream.onComplete();
+            } else {
+                downstream.onError(throwable);
+            }
+        }
+
+    }
+
+    private final Publisher<Object> upstream;
+
+    private final Function<Object, CompletableFuture<Object>> converter;
+
+    private final Cancellation cancellation;
+
+    @Override
+    public void subscribe(Subscriber<? super Object> subscriber) {
+        upstream.subscribe(new ConvertingSubscriber(subscriber, converter, cancellation));
+    }
+
+}
@@ -18,4 +18,8 @@ final class FieldWiring {
 
     private final DataFetcher<CompletableFuture<Object>> dataFetcher;
 
+    private final boolean batched;
+
+    private final MethodInvoker methodInvoker;
+
 }
@@ -1,17 +1,40 @@
 package com.qudini.gom;
 
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.QueryComplexityInfo;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.schema.FieldCoordinates;
 import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.TypeRuntimeWiring;
 import lombok.RequiredArgsConstructor;
 import org.dataloader.DataLoaderRegistry;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import static com.qudini.gom.BlockingExecutors.newBlockingExecutor;
 import static com.qudini.gom.Converters.newConverters;
+import static graphql.schema.FieldCoordinates.coordinates;
 import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -21,10 +44,18 @@ public final class Gom {
 
         private Collection<Object> resolvers;
         private Converters converters;
+        private Executor blockingExecutor;
+        private Function<Object, Cancellation> cancellationExtractor;
+        private boolean compiledPropertyFetchers;
+        private Path snapshotPath;
+        private ResultCache resultCache;
+        private String subscriptionTypeName;
 
         private Builder() {
             this.resolvers = new HashSet<>();
+            this.subscriptionTypeName = "Subscription";
             this.converters = newConverters(Object.class).build();
+            this.cancellationExtractor = context -> Cancellation.none();
         }
 
         @Nonnull
@@ -39,10 +70,77 @@ public final class Gom {
             return this;
         }
 
+        @Nonnull
+        public Builder blockingExecutor(Executor blockingExecutor) {
+            this.blockingExecutor = blockingExecutor;
+            return this;
+        }
+
+        @Nonnull
+        public <C> Builder cancellation(Class<C> contextClass, Function<C, Cancellation> cancellationExtractor) {
+            this.cancellationExtractor = context -> contextClass.isInstance(context)
+                    ? cancellationExtractor.apply(contextClass.cast(context))
+                    : Cancellation.none();
+            return this;
+        }
+
+        @Nonnull
+        public Builder compiledPropertyFetchers(boolean compiledPropertyFetchers) {
+            this.compiledPropertyFetchers = compiledPropertyFetchers;
+            return this;
+        }
+
+        @Nonnull
+        public Builder resultCache(ResultCache resultCache) {
+            this.resultCache = resultCache;
+            return this;
+        }
+
+        @Nonnull
+        public Builder subscriptionType(String subscriptionTypeName) {
+            this.subscriptionTypeName = subscriptionTypeName;
+            return this;
+        }
+
+        @Nonnull
+        public Builder snapshot(Path snapshotPath) {
+            this.snapshotPath = snapshotPath;
+            return this;
+        }
+
+        @Nonnull
+        public Gom build(TypeDefinitionRegistry typeDefinitionRegistry) {
+            Gom gom = build(WiringValidation.getFieldNames(typeDefinitionRegistry));
+            WiringValidation.validate(gom.fieldWirings, converters, typeDefinitionRegistry);
+            return gom;
+        }
+
         @Nonnull
         public Gom build() {
-            ResolverInspection inspection = ResolverInspection.inspect(resolvers, converters);
-            return new Gom(inspection.getFieldWirings(), inspection.getDataLoaderRegistrars());
+            return build((Map<String, Set<String>>) null);
+        }
+
+        private Gom build(@Nullable Map<String, Set<String>> schemaFieldNames) {
+            WiringSnapshot snapshot = snapshotPath == null ? null : WiringSnapshot.read(snapshotPath);
+            ResolverInspection inspection = ResolverInspection.inspect(
+                    resolvers,
+                    converters,
+                    blockingExecutor == null ? newBlockingExecutor() : blockingExecutor,
+                    cancellationExtractor,
+                    resultCache,
+                    subscriptionTypeName,
+                    snapshot
+            );
+            if (snapshot != null) {
+                snapshot.writeIfChanged();
+            }
+            return new Gom(
+                    inspection.getFieldWirings(),
+                    inspection.getDataLoaderRegistrars(),
+                    inspection.getCosts(),
+                    compiledPropertyFetchers,
+                    schemaFieldNames
+            );
         }
 
     }
@@ -51,17 +149,25 @@ public final class Gom {
 
     private final Collection<DataLoaderRegistrar> dataLoaderRegistrars;
 
+    private final Map<FieldCoordinates, Cost> costs;
+
+    private final boolean compiledPropertyFetchers;
+
+    // the fields of each type when built against a schema, so that only their accessors get compiled
+    @Nullable
+    private final Map<String, Set<String>> schemaFieldNames;
+
     public void decorateRuntimeWiringBuilder(RuntimeWiring.Builder builder) {
         fieldWirings
                 .stream()
-                .collect(groupingBy(FieldWiring::getTypeName))
+                .collect(groupingBy(FieldWiring::getTypeName, LinkedHashMap::new, toList()))
                 .entrySet()
                 .stream()
                 .map(entry -> entry
                         .getValue()
                         .stream()
                         .reduce(
-                                newTypeWiring(entry.getKey()),
+                                newBaseTypeWiring(entry.getKey(), entry.getValue()),
                                 (typeWiring, fieldWiring) -> typeWiring.dataFetcher(fieldWiring.getFieldName(), fieldWiring.getDataFetcher()),
                                 fail()
                         ))
@@ -72,11 +178,53 @@ public final class Gom {
         dataLoaderRegistrars.forEach(registrar -> registrar.register(registry));
     }
 
+    @Nonnull
+    public NPlusOneDetector newNPlusOneDetector(long threshold, double samplingRate, Consumer<NPlusOneReport> reporter) {
+        Set<FieldCoordinates> simpleFields = fieldWirings
+                .stream()
+                .filter(fieldWiring -> !fieldWiring.isBatched())
+                .map(fieldWiring -> coordinates(fieldWiring.getTypeName(), fieldWiring.getFieldName()))
+                .collect(toSet());
+        return new NPlusOneDetector(simpleFields, threshold, samplingRate, reporter);
+    }
+
+    @Nonnull
+    public FieldComplexityCalculator getFieldComplexityCalculator() {
+        return new CostCalculator(costs);
+    }
+
+    @Nonnull
+    public Instrumentation newCostInstrumentation(int budget) {
+        return new CostInstrumentation(budget, getFieldComplexityCalculator(), info -> true);
+    }
+
+    @Nonnull
+    public Instrumentation newCostInstrumentation(int budget, Function<QueryComplexityInfo, Boolean> budgetExceeded) {
+        return new CostInstrumentation(budget, getFieldComplexityCalculator(), budgetExceeded);
+    }
+
     @Nonnull
     public static Builder newGom() {
         return new Builder();
     }
 
+    private TypeRuntimeWiring.Builder newBaseTypeWiring(String typeName, List<FieldWiring> typeFieldWirings) {
+        TypeRuntimeWiring.Builder typeWiring = newTypeWiring(typeName);
+        if (compiledPropertyFetchers) {
+            Set<Class<?>> sourceTypes = typeFieldWirings
+                    .stream()
+                    .map(fieldWiring -> fieldWiring.getMethodInvoker().getSourceType())
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(toCollection(LinkedHashSet::new));
+            Set<String> typeFieldNames = schemaFieldNames == null ? null : schemaFieldNames.getOrDefault(typeName, emptySet());
+            PropertyFetcher
+                    .of(sourceTypes, property -> typeFieldNames == null || typeFieldNames.contains(property))
+                    .forEach(typeWiring::dataFetcher);
+        }
+        return typeWiring;
+    }
+
     private static <T> BinaryOperator<T> fail() {
         return (x, y) -> {
             throw new IllegalStateException("This combiner shouldn't have been called");
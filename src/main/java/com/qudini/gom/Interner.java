@@ -0,0 +1,66 @@
+package com.qudini.gom;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class Interner<T> {
+
+    private static final class WeakKey<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        private WeakKey(T instance, ReferenceQueue<T> queue) {
+            super(instance, queue);
+            this.hash = instance.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof WeakKey)) {
+                return false;
+            }
+            // once cleared, a key is only equal to itself, so that it can still be removed
+            Object instance = get();
+            return instance != null && instance.equals(((WeakKey<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    // lock-free lookups, so that concurrent queries don't contend on interning
+    private final ConcurrentMap<WeakKey<T>, WeakKey<T>> instances = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    T intern(T instance) {
+        for (Reference<? extends T> cleared = queue.poll(); cleared != null; cleared = queue.poll()) {
+            instances.remove(cleared, cleared);
+        }
+        WeakKey<T> key = new WeakKey<>(instance, queue);
+        while (true) {
+            WeakKey<T> existing = instances.get(key);
+            if (existing == null) {
+                existing = instances.putIfAbsent(key, key);
+                if (existing == null) {
+                    return instance;
+                }
+            }
+            T interned = existing.get();
+            if (interned != null) {
+                return interned;
+            }
+            instances.remove(existing, existing);
+        }
+    }
+
+}
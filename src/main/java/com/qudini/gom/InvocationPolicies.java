@@ -0,0 +1,176 @@
+package com.qudini.gom;
+
+import lombok.NoArgsConstructor;
+
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.qudini.gom.Schedulers.scheduler;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+final class InvocationPolicies {
+
+    static InvocationPolicy none() {
+        return (invocation, fallbackInvocation) -> invocation.get();
+    }
+
+    static InvocationPolicy of(MethodInvoker methodInvoker, @Nullable MethodInvoker fallbackMethodInvoker, Executor executor) {
+        InvocationPolicy policy = none();
+        policy = methodInvoker
+                .getAnnotation(CircuitBreaker.class)
+                .map(circuitBreaker -> circuitBreaker(circuitBreaker, methodInvoker, fallbackMethodInvoker))
+                .map(policy::wrap)
+                .orElse(policy);
+        policy = methodInvoker
+                .getAnnotation(Retry.class)
+                .map(retry -> retry(retry, executor))
+                .map(policy::wrap)
+                .orElse(policy);
+        policy = methodInvoker
+                .getAnnotation(Hedge.class)
+                .map(hedge -> hedge(hedge, executor))
+                .map(policy::wrap)
+                .orElse(policy);
+        return policy;
+    }
+
+    private static InvocationPolicy retry(Retry retry, Executor executor) {
+        long backoff = retry.unit().toNanos(retry.backoff());
+        return (invocation, fallbackInvocation) -> {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            attempt(invocation, result, retry.max(), backoff, executor);
+            return result;
+        };
+    }
+
+    private static InvocationPolicy hedge(Hedge hedge, Executor executor) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        return (invocation, fallbackInvocation) -> {
+            long delay = histogram.getCount() < hedge.minSamples() ? -1 : histogram.getPercentile(hedge.after());
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            Queue<CompletableFuture<Object>> calls = new ConcurrentLinkedQueue<>();
+            AtomicInteger pendingCalls = new AtomicInteger(1);
+            Runnable launch = () -> {
+                long start = System.nanoTime();
+                CompletableFuture<Object> call = call(invocation);
+                calls.add(call);
+                call.whenComplete((value, throwable) -> {
+                    if (throwable == null) {
+                        histogram.record(System.nanoTime() - start);
+                        result.complete(value);
+                    } else if (pendingCalls.decrementAndGet() == 0) {
+                        result.completeExceptionally(throwable);
+                    }
+                });
+            };
+            launch.run();
+            if (delay >= 0 && !result.isDone()) {
+                ScheduledFuture<?> hedging = scheduler().schedule(() -> executor.execute(() -> {
+                    if (!result.isDone() && pendingCalls.getAndIncrement() > 0) {
+                        launch.run();
+                    }
+                }), delay, NANOSECONDS);
+                result.whenComplete((value, throwable) -> hedging.cancel(false));
+            }
+            result.whenComplete((value, throwable) -> calls.forEach(call -> call.cancel(true)));
+            return result;
+        };
+    }
+
+    private static InvocationPolicy circuitBreaker(
+            CircuitBreaker circuitBreaker,
+            MethodInvoker methodInvoker,
+            @Nullable MethodInvoker fallbackMethodInvoker
+    ) {
+        CircuitBreakerState state = new CircuitBreakerState(circuitBreaker);
+        return (invocation, fallbackInvocation) -> {
+            if (!state.tryAcquire()) {
+                if (fallbackMethodInvoker == null) {
+                    CompletableFuture<Object> future = new CompletableFuture<>();
+                    future.completeExceptionally(new IllegalStateException(format("Circuit breaker open for %s", methodInvoker)));
+                    return future;
+                }
+                return call(() -> fallbackInvocation.apply(fallbackMethodInvoker));
+            }
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            call(invocation).whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    state.onSuccess();
+                    result.complete(value);
+                } else {
+                    if (isCancellation(throwable)) {
+                        state.onCancellation();
+                    } else {
+                        state.onFailure();
+                    }
+                    if (fallbackMethodInvoker == null || isCancellation(throwable)) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        forward(call(() -> fallbackInvocation.apply(fallbackMethodInvoker)), result);
+                    }
+                }
+            });
+            return result;
+        };
+    }
+
+    private static void forward(CompletableFuture<Object> source, CompletableFuture<Object> target) {
+        source.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                target.complete(value);
+            } else {
+                target.completeExceptionally(throwable);
+            }
+        });
+    }
+
+    private static void attempt(
+            Supplier<CompletableFuture<Object>> invocation,
+            CompletableFuture<Object> result,
+            int remainingRetries,
+            long backoff,
+            Executor executor
+    ) {
+        call(invocation).whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+            } else if (remainingRetries <= 0 || isCancellation(throwable)) {
+                result.completeExceptionally(throwable);
+            } else {
+                Runnable retry = () -> attempt(invocation, result, remainingRetries - 1, backoff * 2, executor);
+                if (backoff > 0) {
+                    scheduler().schedule(() -> executor.execute(retry), backoff, NANOSECONDS);
+                } else {
+                    executor.execute(retry);
+                }
+            }
+        });
+    }
+
+    private static CompletableFuture<Object> call(Supplier<CompletableFuture<Object>> invocation) {
+        try {
+            return invocation.get();
+        } catch (Exception e) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    private static boolean isCancellation(Throwable throwable) {
+        return throwable instanceof CancellationException
+                || throwable instanceof CompletionException && throwable.getCause() instanceof CancellationException;
+    }
+
+}
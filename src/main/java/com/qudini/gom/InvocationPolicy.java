@@ -0,0 +1,22 @@
+package com.qudini.gom;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@FunctionalInterface
+interface InvocationPolicy {
+
+    CompletableFuture<Object> apply(
+            Supplier<CompletableFuture<Object>> invocation,
+            Function<MethodInvoker, CompletableFuture<Object>> fallbackInvocation
+    );
+
+    default InvocationPolicy wrap(InvocationPolicy innerPolicy) {
+        return (invocation, fallbackInvocation) -> apply(
+                () -> innerPolicy.apply(invocation, fallbackInvocation),
+                fallbackInvocation
+        );
+    }
+
+}
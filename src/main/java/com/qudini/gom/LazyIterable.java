@@ -0,0 +1,90 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+final class LazyIterable implements Iterable<Object> {
+
+    private final class ClosingIterator implements Iterator<Object> {
+
+        @Override
+        public boolean hasNext() {
+            try {
+                boolean hasNext = iterator.hasNext();
+                if (!hasNext) {
+                    close();
+                }
+                return hasNext;
+            } catch (RuntimeException | Error e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public Object next() {
+            try {
+                return iterator.next();
+            } catch (RuntimeException | Error e) {
+                close();
+                throw e;
+            }
+        }
+
+    }
+
+    private final Iterator<?> iterator;
+
+    @Nullable
+    private final AutoCloseable closeable;
+
+    private final AtomicBoolean iterated = new AtomicBoolean(false);
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    @Override
+    public Iterator<Object> iterator() {
+        if (!iterated.compareAndSet(false, true)) {
+            throw new IllegalStateException("A Stream or an Iterator returned by a resolver can only be iterated once");
+        }
+        return new ClosingIterator();
+    }
+
+    @SneakyThrows
+    private void close() {
+        if (closeable != null && closed.compareAndSet(false, true)) {
+            closeable.close();
+        }
+    }
+
+    static Object wrap(@Nullable Object value, boolean shared) {
+        final LazyIterable iterable;
+        if (value instanceof LazyIterable) {
+            iterable = (LazyIterable) value;
+        } else if (value instanceof Stream) {
+            Stream<?> stream = (Stream<?>) value;
+            iterable = new LazyIterable(stream.iterator(), stream);
+        } else if (value instanceof Iterator) {
+            iterable = new LazyIterable((Iterator<?>) value, value instanceof AutoCloseable ? (AutoCloseable) value : null);
+        } else {
+            return value;
+        }
+        if (!shared) {
+            return iterable;
+        }
+        List<Object> values = new ArrayList<>();
+        iterable.forEach(values::add);
+        return values;
+    }
+
+}
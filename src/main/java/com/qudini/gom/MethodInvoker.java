@@ -3,24 +3,53 @@ package com.qudini.gom;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
+import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
 final class MethodInvoker {
 
+    private enum ParameterKind {
+        SOURCE,
+        ARGUMENTS,
+        SELECTION,
+        CANCELLATION,
+        PAGINATION,
+        ARGS
+    }
+
     private final Method method;
 
     private final Object instance;
 
+    private final ParameterKind[] parameterKinds;
+
+    private final ArgumentBinder[] argumentBinders;
+
+    private final Pagination.Factory[] paginationFactories;
+
+    private final boolean sourceMisplaced;
+
+    // whether a field is a root one is only known from the schema, so both cases are decided upfront
+    private final boolean invocableWithSource;
+
+    private final boolean invocableWithoutSource;
+
     @SneakyThrows
     Object invoke(Object... arguments) {
         try {
@@ -40,12 +69,82 @@ final class MethodInvoker {
         }
     }
 
+    Object invoke(@Nullable Object source, Arguments arguments, Selection selection, Cancellation cancellation) {
+        if (!(source == null ? invocableWithoutSource : invocableWithSource)) {
+            throw new IllegalStateException(format("Invalid resolver: %s", this));
+        }
+        Object[] parameters = new Object[parameterKinds.length];
+        for (int i = 0; i < parameterKinds.length; i++) {
+            switch (parameterKinds[i]) {
+                case SOURCE:
+                    parameters[i] = source;
+                    break;
+                case ARGUMENTS:
+                    parameters[i] = arguments;
+                    break;
+                case SELECTION:
+                    parameters[i] = selection;
+                    break;
+                case CANCELLATION:
+                    parameters[i] = cancellation;
+                    break;
+                case PAGINATION:
+                    parameters[i] = paginationFactories[i].create(arguments, selection);
+                    break;
+                case ARGS:
+                    parameters[i] = argumentBinders[i].bind(((DefaultArguments) arguments).getArguments());
+                    break;
+            }
+        }
+        return invoke(parameters);
+    }
+
     int getParameterCount() {
-        return method.getParameterCount();
+        return parameterKinds.length;
+    }
+
+    boolean isSourceExpected() {
+        return parameterKinds.length > 0 && parameterKinds[0] == ParameterKind.SOURCE;
+    }
+
+    boolean isSourceMisplaced() {
+        return sourceMisplaced;
+    }
+
+    Class<?> getReturnType() {
+        return method.getReturnType();
+    }
+
+    List<String> getBoundArgumentNames() {
+        return Stream
+                .of(method.getParameters())
+                .map(parameter -> parameter.getAnnotation(Args.class))
+                .filter(args -> args != null && !args.value().isEmpty())
+                .map(Args::value)
+                .collect(toList());
     }
 
-    boolean hasParameterType(Class<?> parameterType) {
-        return asList(method.getParameterTypes()).contains(parameterType);
+    Optional<Class<?>> getSourceType() {
+        if (!isSourceExpected() || isBatchedByArguments()) {
+            return Optional.empty();
+        }
+        Type sourceType = method.getGenericParameterTypes()[0];
+        if (getAnnotation(Batched.class).isPresent() && sourceType instanceof ParameterizedType) {
+            sourceType = ((ParameterizedType) sourceType).getActualTypeArguments()[0];
+        }
+        return sourceType instanceof Class
+                ? Optional.of((Class<?>) sourceType)
+                : Optional.empty();
+    }
+
+    boolean isBatchedByArguments() {
+        Type[] parameterTypes = method.getGenericParameterTypes();
+        if (parameterTypes.length == 0 || !(parameterTypes[0] instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType parameterType = (ParameterizedType) parameterTypes[0];
+        return Set.class.equals(parameterType.getRawType())
+                && Arguments.class.equals(parameterType.getActualTypeArguments()[0]);
     }
 
     List<Annotation> getFirstParameterAnnotations(Class<?> parameterType) {
@@ -63,16 +162,80 @@ final class MethodInvoker {
                 .findFirst();
     }
 
+    <T extends Annotation> Optional<T> getAnnotation(Class<T> annotationType) {
+        return Optional.ofNullable(method.getAnnotation(annotationType));
+    }
+
+    <T extends Annotation> Optional<T> getAnnotationOrTypeAnnotation(Class<T> annotationType) {
+        Optional<T> annotation = getAnnotation(annotationType);
+        return annotation.isPresent()
+                ? annotation
+                : Optional.ofNullable(instance.getClass().getAnnotation(annotationType));
+    }
+
     @Override
     public String toString() {
         return method.toString();
     }
 
+    private static ParameterKind getParameterKind(Class<?> parameterType) {
+        final ParameterKind parameterKind;
+        if (Arguments.class.equals(parameterType)) {
+            parameterKind = ParameterKind.ARGUMENTS;
+        } else if (Selection.class.equals(parameterType)) {
+            parameterKind = ParameterKind.SELECTION;
+        } else if (Cancellation.class.equals(parameterType)) {
+            parameterKind = ParameterKind.CANCELLATION;
+        } else if (Pagination.class.equals(parameterType)) {
+            parameterKind = ParameterKind.PAGINATION;
+        } else {
+            parameterKind = ParameterKind.SOURCE;
+        }
+        return parameterKind;
+    }
+
     static MethodInvoker of(Method method, Object instance) {
         if (!method.isAccessible()) {
             method.setAccessible(true);
         }
-        return new MethodInvoker(method, instance);
+        Parameter[] parameters = method.getParameters();
+        ParameterKind[] parameterKinds = new ParameterKind[parameters.length];
+        ArgumentBinder[] argumentBinders = new ArgumentBinder[parameters.length];
+        Pagination.Factory[] paginationFactories = new Pagination.Factory[parameters.length];
+        boolean sourceMisplaced = false;
+        for (int i = 0; i < parameters.length; i++) {
+            Args args = parameters[i].getAnnotation(Args.class);
+            if (args == null) {
+                parameterKinds[i] = getParameterKind(parameters[i].getType());
+                sourceMisplaced |= i > 0 && parameterKinds[i] == ParameterKind.SOURCE;
+                if (parameterKinds[i] == ParameterKind.PAGINATION) {
+                    paginationFactories[i] = Pagination.Factory.of(parameters[i].getAnnotation(Paginated.class));
+                }
+            } else {
+                parameterKinds[i] = ParameterKind.ARGS;
+                try {
+                    argumentBinders[i] = ArgumentBinder.of(parameters[i], args);
+                } catch (RuntimeException | LinkageError e) {
+                    throw new IllegalStateException(format(
+                            "Cannot bind the arguments of %s to its parameter %s: %s",
+                            method,
+                            parameters[i],
+                            e.getMessage()
+                    ), e);
+                }
+            }
+        }
+        boolean expectsSource = parameterKinds.length > 0 && parameterKinds[0] == ParameterKind.SOURCE;
+        return new MethodInvoker(
+                method,
+                instance,
+                parameterKinds,
+                argumentBinders,
+                paginationFactories,
+                sourceMisplaced,
+                !sourceMisplaced && (expectsSource || parameterKinds.length == 0),
+                !sourceMisplaced && !expectsSource
+        );
     }
 
 }
@@ -0,0 +1,136 @@
+package com.qudini.gom;
+
+import graphql.ExecutionResult;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.ResultPath;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.FieldCoordinates;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static graphql.execution.instrumentation.SimpleInstrumentationContext.noOp;
+import static graphql.execution.instrumentation.SimpleInstrumentationContext.whenCompleted;
+import static graphql.schema.FieldCoordinates.coordinates;
+import static java.lang.String.join;
+import static lombok.AccessLevel.PACKAGE;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+public final class NPlusOneDetector extends SimpleInstrumentation {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @EqualsAndHashCode
+    private static final class Key {
+
+        private final String typeName;
+
+        private final String fieldName;
+
+        private final String parentPath;
+
+    }
+
+    private static final class Counter {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+        private void record(long elapsedNanos) {
+            count.increment();
+            nanos.add(elapsedNanos);
+        }
+
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class State implements InstrumentationState {
+
+        private static final State NOT_SAMPLED = new State(false);
+
+        private final boolean sampled;
+
+        private final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+
+    }
+
+    private final Set<FieldCoordinates> simpleFields;
+
+    private final long threshold;
+
+    private final double samplingRate;
+
+    private final Consumer<NPlusOneReport> reporter;
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate
+                ? new State(true)
+                : State.NOT_SAMPLED;
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters) {
+        State state = parameters.getInstrumentationState();
+        if (state == null || !state.sampled) {
+            return noOp();
+        }
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+        String typeName = executionStepInfo.getObjectType().getName();
+        String fieldName = executionStepInfo.getFieldDefinition().getName();
+        ResultPath parentPath = executionStepInfo.getPath().getParent();
+        if (!simpleFields.contains(coordinates(typeName, fieldName)) || !isUnderList(parentPath)) {
+            return noOp();
+        }
+        Counter counter = state.counters.computeIfAbsent(
+                new Key(typeName, fieldName, "/" + join("/", parentPath.getKeysOnly())),
+                key -> new Counter()
+        );
+        long start = System.nanoTime();
+        return whenCompleted((result, error) -> counter.record(System.nanoTime() - start));
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters) {
+        State state = parameters.getInstrumentationState();
+        if (state == null || !state.sampled) {
+            return noOp();
+        }
+        return whenCompleted((result, error) -> state.counters.forEach((key, counter) -> {
+            long count = counter.count.sum();
+            if (count >= threshold) {
+                reporter.accept(new NPlusOneReport(
+                        key.typeName,
+                        key.fieldName,
+                        key.parentPath,
+                        count,
+                        Duration.ofNanos(counter.nanos.sum())
+                ));
+            }
+        }));
+    }
+
+    private static boolean isUnderList(ResultPath path) {
+        while (path != null && !path.isRootPath()) {
+            if (path.isListSegment()) {
+                return true;
+            }
+            path = path.getParent();
+        }
+        return false;
+    }
+
+}
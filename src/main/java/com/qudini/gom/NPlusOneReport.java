@@ -0,0 +1,28 @@
+package com.qudini.gom;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.Duration;
+
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class NPlusOneReport {
+
+    private final String typeName;
+
+    private final String fieldName;
+
+    private final String parentPath;
+
+    private final long count;
+
+    private final Duration totalTime;
+
+}
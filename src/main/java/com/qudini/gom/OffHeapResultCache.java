@@ -0,0 +1,151 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static lombok.AccessLevel.PRIVATE;
+
+/*
+ * Serialized values are appended to direct buffers ("slabs") used as a ring: once the last slab is full, the oldest one
+ * is recycled and everything it held is evicted at once, so that there's no fragmentation to deal with. Only the keys and
+ * the locations of their values stay on the heap, the keys being serialized so that they don't retain their sources.
+ */
+final class OffHeapResultCache implements ResultCache {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class Location {
+
+        private final int slab;
+
+        private final int offset;
+
+        private final int length;
+
+    }
+
+    private static final class SerializedKey {
+
+        private final byte[] bytes;
+
+        private final int hash;
+
+        private SerializedKey(Object key) {
+            this.bytes = ResultCaches.javaSerializer().serialize(key);
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SerializedKey && Arrays.equals(bytes, ((SerializedKey) other).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    private final ResultSerializer serializer;
+
+    private final int slabSize;
+
+    private final ByteBuffer[] slabs;
+
+    private final List<List<SerializedKey>> keysBySlab;
+
+    private final Map<SerializedKey, Location> locations = new HashMap<>();
+
+    private int currentSlab;
+
+    private int position;
+
+    OffHeapResultCache(long capacity, int slabSize, ResultSerializer serializer) {
+        if (slabSize <= 0 || capacity < slabSize) {
+            throw new IllegalArgumentException(format(
+                    "The slab size must be positive and at most the capacity, got %d for a capacity of %d",
+                    slabSize,
+                    capacity
+            ));
+        }
+        long slabCount = (capacity + slabSize - 1) / slabSize;
+        if (slabCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(format("Too many slabs of %d bytes for a capacity of %d", slabSize, capacity));
+        }
+        this.serializer = serializer;
+        this.slabSize = slabSize;
+        this.slabs = new ByteBuffer[(int) slabCount];
+        this.keysBySlab = new ArrayList<>(slabs.length);
+        for (int i = 0; i < slabs.length; i++) {
+            keysBySlab.add(new ArrayList<>());
+        }
+    }
+
+    @Nullable
+    @Override
+    public Object get(Object key) {
+        SerializedKey serializedKey = new SerializedKey(key);
+        byte[] bytes;
+        synchronized (this) {
+            Location location = locations.get(serializedKey);
+            if (location == null) {
+                return null;
+            }
+            bytes = new byte[location.length];
+            ByteBuffer slab = slabs[location.slab].duplicate();
+            slab.position(location.offset);
+            slab.get(bytes);
+        }
+        return serializer.deserialize(bytes);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        SerializedKey serializedKey = new SerializedKey(key);
+        byte[] bytes = serializer.serialize(value);
+        synchronized (this) {
+            if (bytes.length > slabSize) {
+                // too large to be cached, but the previous value must not be served anymore
+                locations.remove(serializedKey);
+                return;
+            }
+            if (slabs[currentSlab] == null) {
+                slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+            } else if (position + bytes.length > slabSize) {
+                recycleNextSlab();
+            }
+            ByteBuffer slab = slabs[currentSlab].duplicate();
+            slab.position(position);
+            slab.put(bytes);
+            locations.put(serializedKey, new Location(currentSlab, position, bytes.length));
+            keysBySlab.get(currentSlab).add(serializedKey);
+            position += bytes.length;
+        }
+    }
+
+    private void recycleNextSlab() {
+        currentSlab = (currentSlab + 1) % slabs.length;
+        position = 0;
+        if (slabs[currentSlab] == null) {
+            slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+        }
+        List<SerializedKey> evictedKeys = keysBySlab.get(currentSlab);
+        for (SerializedKey evictedKey : evictedKeys) {
+            Location location = locations.get(evictedKey);
+            // the key may have been put again since, in another slab
+            if (location != null && location.slab == currentSlab) {
+                locations.remove(evictedKey);
+            }
+        }
+        evictedKeys.clear();
+    }
+
+}
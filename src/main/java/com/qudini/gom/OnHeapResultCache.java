@@ -0,0 +1,38 @@
+package com.qudini.gom;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+final class OnHeapResultCache implements ResultCache {
+
+    private final Map<Object, Object> values;
+
+    OnHeapResultCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException(format("The maximum number of entries must be positive, got %d", maxEntries));
+        }
+        this.values = new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > maxEntries;
+            }
+
+        };
+    }
+
+    @Nullable
+    @Override
+    public synchronized Object get(Object key) {
+        return values.get(key);
+    }
+
+    @Override
+    public synchronized void put(Object key, Object value) {
+        values.put(key, value);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.qudini.gom;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Retention(RUNTIME)
+@Target(PARAMETER)
+public @interface Paginated {
+
+    int defaultSize() default Pagination.DEFAULT_SIZE;
+
+    int maxSize() default Pagination.MAX_SIZE;
+
+}
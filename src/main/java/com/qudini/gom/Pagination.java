@@ -0,0 +1,124 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+import static java.lang.String.format;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public final class Pagination {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    static final class Factory {
+
+        private final int defaultSize;
+
+        private final int maxSize;
+
+        Pagination create(Arguments arguments, Selection selection) {
+            return Pagination.of(arguments, selection, defaultSize, maxSize);
+        }
+
+        static Factory of(@Nullable Paginated paginated) {
+            return paginated == null
+                    ? new Factory(DEFAULT_SIZE, MAX_SIZE)
+                    : new Factory(paginated.defaultSize(), paginated.maxSize());
+        }
+
+    }
+
+    static final int DEFAULT_SIZE = 10;
+    static final int MAX_SIZE = 100;
+
+    private static final String FIRST = "first";
+    private static final String AFTER = "after";
+    private static final String LAST = "last";
+    private static final String BEFORE = "before";
+    private static final String TOTAL_COUNT = "totalCount";
+    private static final String PAGE_INFO = "pageInfo";
+
+    private final Integer first;
+
+    private final String after;
+
+    private final Integer last;
+
+    private final String before;
+
+    private final int size;
+
+    private final boolean totalCountRequested;
+
+    private final boolean pageInfoRequested;
+
+    @Nonnull
+    public Optional<Integer> getFirst() {
+        return Optional.ofNullable(first);
+    }
+
+    @Nonnull
+    public Optional<String> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    @Nonnull
+    public Optional<Integer> getLast() {
+        return Optional.ofNullable(last);
+    }
+
+    @Nonnull
+    public Optional<String> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    public boolean isBackward() {
+        return last != null;
+    }
+
+    @Nonnull
+    public Optional<String> getCursor() {
+        return isBackward() ? getBefore() : getAfter();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getFetchSize() {
+        return size + 1;
+    }
+
+    public boolean isTotalCountRequested() {
+        return totalCountRequested;
+    }
+
+    public boolean isPageInfoRequested() {
+        return pageInfoRequested;
+    }
+
+    static Pagination of(Arguments arguments, Selection selection, int defaultSize, int maxSize) {
+        Integer first = arguments.<Integer>getOptional(FIRST).orElse(null);
+        Integer last = arguments.<Integer>getOptional(LAST).orElse(null);
+        if (first != null && last != null) {
+            throw new IllegalStateException(format("'%s' and '%s' cannot be both given", FIRST, LAST));
+        }
+        Integer requestedSize = first == null ? last : first;
+        if (requestedSize != null && requestedSize < 0) {
+            throw new IllegalStateException(format("'%s' cannot be negative, got %d", first == null ? LAST : FIRST, requestedSize));
+        }
+        return new Pagination(
+                first,
+                arguments.<String>getOptional(AFTER).orElse(null),
+                last,
+                arguments.<String>getOptional(BEFORE).orElse(null),
+                Math.min(requestedSize == null ? defaultSize : requestedSize, maxSize),
+                selection.contains(TOTAL_COUNT),
+                selection.contains(PAGE_INFO)
+        );
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import javax.annotation.Nullable;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+import static java.util.Comparator.comparingInt;
+import static lombok.AccessLevel.PRIVATE;
+
+/*
+ * Entries are appended to a memory-mapped file, each one made of a header (key length, value length, expiry and CRC)
+ * followed by the serialized key and value. The key length is written last, so that a zero one marks the end of the
+ * entries, even after a crash. The index of the entries is rebuilt by reading them back on startup, skipping the expired
+ * ones and stopping at the first corrupted one. When the file is full, the oldest entries get evicted (a quarter of the
+ * file at once, so that compacting the remaining ones at its beginning only happens every so often).
+ */
+final class PersistentResultCache implements ResultCache {
+
+    static final int MAGIC = 0x474F4D43;
+
+    static final int VERSION = 1;
+
+    private static final int FILE_HEADER_SIZE = 8;
+
+    private static final int ENTRY_HEADER_SIZE = 20;
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class Location {
+
+        private final int offset;
+
+        private final int keyLength;
+
+        private final int valueLength;
+
+        private final long expiresAt;
+
+        private int getSize() {
+            return ENTRY_HEADER_SIZE + keyLength + valueLength;
+        }
+
+    }
+
+    private final ResultSerializer serializer;
+
+    private final long ttlMillis;
+
+    private final LongSupplier clock;
+
+    private final MappedByteBuffer buffer;
+
+    private final Map<Object, Location> locations = new HashMap<>();
+
+    private int position = FILE_HEADER_SIZE;
+
+    @SneakyThrows
+    PersistentResultCache(Path path, int capacity, Duration ttl, ResultSerializer serializer, LongSupplier clock) {
+        if (capacity <= FILE_HEADER_SIZE + ENTRY_HEADER_SIZE) {
+            throw new IllegalArgumentException(format("The capacity is too small, got %d", capacity));
+        } else if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException(format("The time to live must be positive, got %s", ttl));
+        }
+        this.serializer = serializer;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(capacity);
+            // the mapping stays valid once the channel is closed
+            this.buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION) {
+            load();
+        } else {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+        }
+        markEnd();
+    }
+
+    @Nullable
+    @Override
+    public Object get(Object key) {
+        byte[] value;
+        synchronized (this) {
+            Location location = locations.get(key);
+            if (location == null) {
+                return null;
+            } else if (location.expiresAt <= clock.getAsLong()) {
+                locations.remove(key);
+                return null;
+            }
+            value = read(location.offset + ENTRY_HEADER_SIZE + location.keyLength, location.valueLength);
+        }
+        try {
+            return serializer.deserialize(value);
+        } catch (RuntimeException e) {
+            // most likely written by an incompatible version of the value's class
+            synchronized (this) {
+                locations.remove(key);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        byte[] keyBytes = ResultCaches.javaSerializer().serialize(key);
+        byte[] valueBytes = serializer.serialize(value);
+        int size = ENTRY_HEADER_SIZE + keyBytes.length + valueBytes.length;
+        synchronized (this) {
+            locations.remove(key);
+            if (size > buffer.capacity() - FILE_HEADER_SIZE) {
+                return;
+            } else if (position + size > buffer.capacity()) {
+                compact(Math.max(size, (buffer.capacity() - FILE_HEADER_SIZE) / 4));
+            }
+            long expiresAt = clock.getAsLong() + ttlMillis;
+            write(position + ENTRY_HEADER_SIZE, keyBytes);
+            write(position + ENTRY_HEADER_SIZE + keyBytes.length, valueBytes);
+            buffer.putLong(position + 8, expiresAt);
+            buffer.putInt(position + 16, checksum(expiresAt, keyBytes, valueBytes));
+            buffer.putInt(position + 4, valueBytes.length);
+            buffer.putInt(position, keyBytes.length);
+            locations.put(key, new Location(position, keyBytes.length, valueBytes.length, expiresAt));
+            position += size;
+            markEnd();
+        }
+    }
+
+    private void load() {
+        long now = clock.getAsLong();
+        while (position + ENTRY_HEADER_SIZE <= buffer.capacity()) {
+            int keyLength = buffer.getInt(position);
+            int valueLength = buffer.getInt(position + 4);
+            if (keyLength <= 0
+                    || valueLength <= 0
+                    || (long) position + ENTRY_HEADER_SIZE + keyLength + valueLength > buffer.capacity()) {
+                break;
+            }
+            long expiresAt = buffer.getLong(position + 8);
+            byte[] keyBytes = read(position + ENTRY_HEADER_SIZE, keyLength);
+            byte[] valueBytes = read(position + ENTRY_HEADER_SIZE + keyLength, valueLength);
+            if (buffer.getInt(position + 16) != checksum(expiresAt, keyBytes, valueBytes)) {
+                break;
+            }
+            Location location = new Location(position, keyLength, valueLength, expiresAt);
+            position += location.getSize();
+            if (expiresAt <= now) {
+                continue;
+            }
+            try {
+                locations.put(ResultCaches.javaSerializer().deserialize(keyBytes), location);
+            } catch (RuntimeException e) {
+                // the source's class has changed or is gone: the entry can't be looked up anymore
+            }
+        }
+        compact(0);
+    }
+
+    private void compact(int requiredSpace) {
+        long now = clock.getAsLong();
+        locations.values().removeIf(location -> location.expiresAt <= now);
+        List<Map.Entry<Object, Location>> entries = new ArrayList<>(locations.entrySet());
+        entries.sort(comparingInt(entry -> entry.getValue().offset));
+        long usedSpace = FILE_HEADER_SIZE;
+        for (Map.Entry<Object, Location> entry : entries) {
+            usedSpace += entry.getValue().getSize();
+        }
+        int evictedEntries = 0;
+        while (usedSpace + requiredSpace > buffer.capacity()) {
+            Map.Entry<Object, Location> oldestEntry = entries.get(evictedEntries++);
+            usedSpace -= oldestEntry.getValue().getSize();
+            locations.remove(oldestEntry.getKey());
+        }
+        position = FILE_HEADER_SIZE;
+        for (Map.Entry<Object, Location> entry : entries.subList(evictedEntries, entries.size())) {
+            Location location = entry.getValue();
+            if (location.offset != position) {
+                // entries only ever move towards the beginning of the file, in order
+                write(position, read(location.offset, location.getSize()));
+                entry.setValue(new Location(position, location.keyLength, location.valueLength, location.expiresAt));
+            }
+            position += location.getSize();
+        }
+        markEnd();
+    }
+
+    private void markEnd() {
+        if (position + 4 <= buffer.capacity()) {
+            buffer.putInt(position, 0);
+        }
+    }
+
+    private byte[] read(int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return bytes;
+    }
+
+    private void write(int offset, byte[] bytes) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.put(bytes);
+    }
+
+    private static int checksum(long expiresAt, byte[] keyBytes, byte[] valueBytes) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(8).putLong(0, expiresAt));
+        crc.update(keyBytes);
+        crc.update(valueBytes);
+        return (int) crc.getValue();
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.qudini.gom;
+
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.PropertyDataFetcher;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Collections.unmodifiableMap;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+final class PropertyFetcher implements TrivialDataFetcher<Object> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<String, AccessibleObject>> PROPERTIES = new ClassValue<Map<String, AccessibleObject>>() {
+
+        @Override
+        protected Map<String, AccessibleObject> computeValue(Class<?> clazz) {
+            return getProperties(clazz);
+        }
+
+    };
+
+    private final Class<?>[] sourceTypes;
+
+    private final MethodHandle[] accessors;
+
+    private final DataFetcher<Object> fallback;
+
+    @Override
+    @SneakyThrows
+    public Object get(DataFetchingEnvironment environment) {
+        Object source = environment.getSource();
+        for (int i = 0; i < sourceTypes.length; i++) {
+            if (sourceTypes[i].isInstance(source)) {
+                return (Object) accessors[i].invokeExact(source);
+            }
+        }
+        return fallback.get(environment);
+    }
+
+    static Map<String, DataFetcher<?>> of(Collection<Class<?>> sourceTypes, Predicate<String> isSchemaField) {
+        Map<String, Map<Class<?>, MethodHandle>> accessorsByProperty = new LinkedHashMap<>();
+        sourceTypes
+                .stream()
+                .filter(PropertyFetcher::isCompilable)
+                .forEach(sourceType -> PROPERTIES
+                        .get(sourceType)
+                        .forEach((property, member) -> {
+                            // only the fields queries can select get compiled (and their members made accessible)
+                            if (isSchemaField.test(property)) {
+                                accessorsByProperty
+                                        .computeIfAbsent(property, key -> new LinkedHashMap<>())
+                                        .put(sourceType, unreflectGetter(member));
+                            }
+                        }));
+        Map<String, DataFetcher<?>> fetchers = new HashMap<>();
+        accessorsByProperty.forEach((property, accessors) -> fetchers.put(property, new PropertyFetcher(
+                accessors.keySet().toArray(new Class<?>[0]),
+                accessors.values().toArray(new MethodHandle[0]),
+                PropertyDataFetcher.fetching(property)
+        )));
+        return fetchers;
+    }
+
+    private static boolean isCompilable(Class<?> clazz) {
+        return !clazz.isPrimitive()
+                && !clazz.isArray()
+                && !Map.class.isAssignableFrom(clazz)
+                && !isJdkClass(clazz);
+    }
+
+    private static boolean isJdkClass(Class<?> clazz) {
+        return clazz.getName().startsWith("java.");
+    }
+
+    private static Map<String, AccessibleObject> getProperties(Class<?> clazz) {
+        Map<String, AccessibleObject> properties = new HashMap<>();
+        for (Method method : clazz.getMethods()) {
+            getGetterSuffix(method).ifPresent(suffix -> {
+                properties.putIfAbsent(decapitalize(suffix), method);
+                properties.putIfAbsent(suffix, method);
+            });
+        }
+        for (Field field : getFields(clazz)) {
+            properties.putIfAbsent(field.getName(), field);
+        }
+        return unmodifiableMap(properties);
+    }
+
+    private static Optional<String> getGetterSuffix(Method method) {
+        if (method.getParameterCount() > 0
+                || Modifier.isStatic(method.getModifiers())
+                || isJdkClass(method.getDeclaringClass())) {
+            return Optional.empty();
+        }
+        String name = method.getName();
+        Class<?> returnType = method.getReturnType();
+        if (name.length() > 3 && name.startsWith("get") && !void.class.equals(returnType)) {
+            return Optional.of(name.substring(3));
+        } else if (name.length() > 2 && name.startsWith("is") && (boolean.class.equals(returnType) || Boolean.class.equals(returnType))) {
+            return Optional.of(name.substring(2));
+        }
+        return Optional.empty();
+    }
+
+    private static List<Field> getFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        // JDK classes' fields can't be made accessible on Java 16+, and aren't properties anyway
+        for (Class<?> current = clazz; current != null && !isJdkClass(current); current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!field.isSynthetic() && !Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static MethodHandle unreflectGetter(AccessibleObject member) {
+        return member instanceof Method
+                ? unreflectGetter((Method) member)
+                : unreflectGetter((Field) member);
+    }
+
+    @SneakyThrows
+    private static MethodHandle unreflectGetter(Method method) {
+        method.setAccessible(true);
+        return LOOKUP.unreflect(method).asType(methodType(Object.class, Object.class));
+    }
+
+    @SneakyThrows
+    private static MethodHandle unreflectGetter(Field field) {
+        field.setAccessible(true);
+        return LOOKUP.unreflectGetter(field).asType(methodType(Object.class, Object.class));
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+}
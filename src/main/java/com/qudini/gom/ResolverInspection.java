@@ -1,42 +1,99 @@
 package com.qudini.gom;
 
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.FieldCoordinates;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.Try;
+import org.reactivestreams.Publisher;
 
 import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.qudini.gom.Reflections.getMethodAnnotatedWith;
+import static graphql.schema.FieldCoordinates.coordinates;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
+import static org.dataloader.DataLoader.newDataLoader;
 import static org.dataloader.DataLoader.newMappedDataLoader;
+import static org.dataloader.DataLoaderOptions.newOptions;
 
 @AllArgsConstructor(access = PRIVATE)
 @Getter(PACKAGE)
+@Slf4j
 final class ResolverInspection {
 
+    @FunctionalInterface
+    private interface BatchInvocation {
+
+        CompletableFuture<Map<Object, Object>> invoke(Set<Object> sources, Arguments arguments, Selection selection, Object context);
+
+    }
+
+    private static final List<Class<? extends Annotation>> BULK_IGNORED_ANNOTATIONS = asList(
+            Blocking.class,
+            Cached.class,
+            Retry.class,
+            Hedge.class,
+            CircuitBreaker.class
+    );
+
+    private static final List<Class<? extends Annotation>> NON_SUBSCRIPTION_ANNOTATIONS = asList(
+            Blocking.class,
+            Batched.class,
+            AutoBatch.class,
+            Memoize.class,
+            Cached.class,
+            Retry.class,
+            Hedge.class,
+            CircuitBreaker.class
+    );
+
     private final Converters converters;
 
-    private final Set<FieldWiring> fieldWirings = new HashSet<>();
+    private final Executor blockingExecutor;
+
+    private final Function<Object, Cancellation> cancellationExtractor;
 
-    private final Set<DataLoaderRegistrar> dataLoaderRegistrars = new HashSet<>();
+    @Nullable
+    private final ResultCache resultCache;
+
+    private final String subscriptionTypeName;
+
+    private final List<FieldWiring> fieldWirings = new ArrayList<>();
+
+    private final List<DataLoaderRegistrar> dataLoaderRegistrars = new ArrayList<>();
+
+    private final Map<FieldCoordinates, Cost> costs = new LinkedHashMap<>();
 
     private int getSelectionDepth(MethodInvoker methodInvoker) {
         return methodInvoker
@@ -45,8 +102,10 @@ final class ResolverInspection {
                 .orElse(1);
     }
 
-    private Object argumentsOrSelection(MethodInvoker methodInvoker, Arguments arguments, Selection selection) {
-        return methodInvoker.hasParameterType(Arguments.class) ? arguments : selection;
+    private boolean isBlocking(MethodInvoker methodInvoker) {
+        return methodInvoker
+                .getAnnotationOrTypeAnnotation(Blocking.class)
+                .isPresent();
     }
 
     private <R> CompletableFuture<R> invoke(
@@ -56,70 +115,185 @@ final class ResolverInspection {
             Selection selection,
             Object context
     ) {
-        final Object returnedValue;
-        int parameterCount = methodInvoker.getParameterCount();
-        switch (parameterCount) {
+        Cancellation cancellation = cancellationExtractor.apply(context);
+        cancellation.throwIfCancelled();
+        Object returnedValue = methodInvoker.invoke(source, arguments, selection, cancellation);
+        return cancellation.propagateTo((CompletableFuture<R>) converters.convert(returnedValue, context));
+    }
 
-            case 0:
-                returnedValue = methodInvoker.invoke();
-                break;
+    private boolean isCached(MethodInvoker methodInvoker) {
+        if (!methodInvoker.getAnnotation(Cached.class).isPresent()) {
+            return false;
+        } else if (resultCache == null) {
+            throw new IllegalStateException(format(
+                    "%s is annotated with @Cached, but no result cache has been configured",
+                    methodInvoker
+            ));
+        }
+        return true;
+    }
 
-            case 1:
-                returnedValue = source == null
-                        ? methodInvoker.invoke(argumentsOrSelection(methodInvoker, arguments, selection))
-                        : methodInvoker.invoke(source);
-                break;
+    @Nullable
+    private Object getCachedResult(CacheKey key) {
+        try {
+            return resultCache.get(key);
+        } catch (RuntimeException e) {
+            // a cache must never fail a query: the result will simply be computed again
+            log.warn("Could not get {} from the result cache", key, e);
+            return null;
+        }
+    }
 
-            case 2:
-                returnedValue = source == null
-                        ? methodInvoker.invoke(arguments, selection)
-                        : methodInvoker.invoke(source, argumentsOrSelection(methodInvoker, arguments, selection));
-                break;
+    private void cacheResult(CacheKey key, Object result) {
+        try {
+            resultCache.put(key, result);
+        } catch (RuntimeException e) {
+            log.warn("Could not put {} into the result cache", key, e);
+        }
+    }
 
-            case 3:
-                returnedValue = methodInvoker.invoke(source, arguments, selection);
-                break;
+    private BatchInvocation cached(MethodInvoker methodInvoker, BatchInvocation batchInvocation) {
+        if (!isCached(methodInvoker)) {
+            return batchInvocation;
+        }
+        String field = methodInvoker.toString();
+        return (sources, arguments, selection, context) -> {
+            Map<Object, Object> resultsBySource = new HashMap<>();
+            Set<Object> uncachedSources = new LinkedHashSet<>();
+            sources.forEach(source -> {
+                Object cachedResult = getCachedResult(new CacheKey(field, source, arguments, selection));
+                if (cachedResult == null) {
+                    uncachedSources.add(source);
+                } else {
+                    resultsBySource.put(source, cachedResult);
+                }
+            });
+            if (uncachedSources.isEmpty()) {
+                return CompletableFuture.completedFuture(resultsBySource);
+            }
+            return batchInvocation
+                    .invoke(uncachedSources, arguments, selection, context)
+                    .thenApply(results -> {
+                        results.forEach((source, result) -> {
+                            Object cacheableResult = LazyIterable.wrap(result, true);
+                            if (cacheableResult != null && !(cacheableResult instanceof Try)) {
+                                cacheResult(new CacheKey(field, source, arguments, selection), cacheableResult);
+                            }
+                            resultsBySource.put(source, cacheableResult);
+                        });
+                        return resultsBySource;
+                    });
+        };
+    }
 
-            default:
-                throw new IllegalStateException(format("Invalid resolver: %s", methodInvoker));
+    private <R> CompletableFuture<R> invoke(
+            MethodInvoker methodInvoker,
+            InvocationPolicy policy,
+            boolean blocking,
+            @Nullable Object source,
+            Arguments arguments,
+            Selection selection,
+            Object context
+    ) {
+        return (CompletableFuture<R>) policy.apply(
+                () -> blocking
+                        ? cancellationExtractor.apply(context).propagateTo(CompletableFuture
+                        .supplyAsync(() -> this.<Object>invoke(methodInvoker, source, arguments, selection, context), blockingExecutor)
+                        .thenCompose(identity()))
+                        : invoke(methodInvoker, source, arguments, selection, context),
+                fallbackMethodInvoker -> invoke(fallbackMethodInvoker, source, arguments, selection, context)
+        );
+    }
 
+    private CompletableFuture<Object> invoke(
+            MethodInvoker methodInvoker,
+            InvocationPolicy policy,
+            boolean blocking,
+            boolean cached,
+            @Nullable Object source,
+            Arguments arguments,
+            Selection selection,
+            Object context
+    ) {
+        if (!cached) {
+            return invoke(methodInvoker, policy, blocking, source, arguments, selection, context);
+        }
+        CacheKey key = new CacheKey(methodInvoker.toString(), source, arguments, selection);
+        Object cachedResult = getCachedResult(key);
+        if (cachedResult != null) {
+            return CompletableFuture.completedFuture(cachedResult);
         }
-        return (CompletableFuture<R>) converters.convert(returnedValue, context);
+        return this.<Object>invoke(methodInvoker, policy, blocking, source, arguments, selection, context).thenApply(result -> {
+            // streams and iterators can only be consumed once
+            Object cacheableResult = LazyIterable.wrap(result, true);
+            if (cacheableResult != null) {
+                cacheResult(key, cacheableResult);
+            }
+            return cacheableResult;
+        });
     }
 
-    private void createBatchedFieldWiring(String type, String field, MethodInvoker methodInvoker) {
+    private void createDataLoaderFieldWiring(
+            String type,
+            String field,
+            MethodInvoker methodInvoker,
+            BiFunction<DataFetchingEnvironment, Integer, DataLoaderKey> keyFactory,
+            boolean mergeSelections,
+            BatchInvocation batchInvocation
+    ) {
         String dataLoaderKey = methodInvoker.toString();
+        BatchInvocation cachedBatchInvocation = cached(methodInvoker, batchInvocation);
+        Function<DataLoaderKey, Object> grouping = mergeSelections
+                ? key -> key.getDiscriminator().getArguments()
+                : DataLoaderKey::getDiscriminator;
         Supplier<DataLoader<DataLoaderKey, Object>> dataLoaderSupplier = () -> newMappedDataLoader(keys -> {
             Optional<Object> maybeContext = keys
                     .stream()
                     .map(DataLoaderKey::getContext)
                     .reduce(failIfDifferent());
+            maybeContext
+                    .map(cancellationExtractor)
+                    .ifPresent(Cancellation::throwIfCancelled);
             List<CompletableFuture<Map<DataLoaderKey, Object>>> futures = keys
                     .stream()
-                    .collect(groupingBy(DataLoaderKey::getDiscriminator))
-                    .entrySet()
+                    .collect(groupingBy(grouping))
+                    .values()
                     .stream()
-                    .map(entry -> {
-                        Map<Object, DataLoaderKey> keysBySource = entry
-                                .getValue()
+                    .map(groupedKeys -> {
+                        Map<Object, List<DataLoaderKey>> keysBySource = groupedKeys
                                 .stream()
-                                .collect(toMap(DataLoaderKey::getSource, identity()));
-                        return this
-                                .<Map<Object, Object>>invoke(
-                                        methodInvoker,
-                                        keysBySource.keySet(),
-                                        entry.getKey().getArguments(),
-                                        entry.getKey().getSelection(),
-                                        maybeContext.orElseThrow(IllegalStateException::new)
-                                )
-                                .thenApply(resultsBySource -> resultsBySource
-                                        .entrySet()
-                                        .stream()
-                                        .collect(toMap(
-                                                sourceResultEntry -> keysBySource.get(sourceResultEntry.getKey()),
-                                                Map.Entry::getValue
-                                        ))
-                                );
+                                .collect(groupingBy(DataLoaderKey::getSource));
+                        Selection selection = mergeSelections
+                                ? DefaultSelection.union(groupedKeys.stream().map(key -> key.getDiscriminator().getSelection()))
+                                : groupedKeys.get(0).getDiscriminator().getSelection();
+                        CompletableFuture<Map<Object, Object>> future;
+                        try {
+                            future = cachedBatchInvocation.invoke(
+                                    keysBySource.keySet(),
+                                    groupedKeys.get(0).getDiscriminator().getArguments(),
+                                    selection,
+                                    maybeContext.orElseThrow(IllegalStateException::new)
+                            );
+                        } catch (Exception e) {
+                            future = new CompletableFuture<>();
+                            future.completeExceptionally(e);
+                        }
+                        return future.handle((resultsBySource, throwable) -> {
+                            Map<DataLoaderKey, Object> resultsByKey = new HashMap<>();
+                            if (throwable == null) {
+                                resultsBySource.forEach((source, result) -> {
+                                    // cached by the data loader, so the same value can complete several fields
+                                    Object value = LazyIterable.wrap(result, true);
+                                    keysBySource
+                                            .getOrDefault(source, Collections.emptyList())
+                                            .forEach(key -> resultsByKey.put(key, value));
+                                });
+                            } else {
+                                Try<Object> failure = Try.failed(unwrap(throwable));
+                                groupedKeys.forEach(key -> resultsByKey.put(key, failure));
+                            }
+                            return resultsByKey;
+                        });
                     })
                     .collect(toList());
             return parallelise(futures)
@@ -141,53 +315,285 @@ final class ResolverInspection {
                 field,
                 environment -> environment
                         .<DataLoaderKey, Object>getDataLoader(dataLoaderKey)
-                        .load(new DataLoaderKey(environment, selectionDepth))
+                        .load(keyFactory.apply(environment, selectionDepth)),
+                true,
+                methodInvoker
         ));
     }
 
-    private void createSimpleFieldWiring(String type, String field, MethodInvoker methodInvoker) {
+    private InvocationPolicy getInvocationPolicy(MethodInvoker methodInvoker, Object resolver) {
+        MethodInvoker fallbackMethodInvoker = methodInvoker
+                .getAnnotation(CircuitBreaker.class)
+                .map(CircuitBreaker::fallback)
+                .filter(fallback -> !fallback.isEmpty())
+                .map(fallback -> MethodInvoker.of(getNamedMethod(resolver.getClass(), fallback, "fallback", methodInvoker), resolver))
+                .orElse(null);
+        return InvocationPolicies.of(methodInvoker, fallbackMethodInvoker, blockingExecutor);
+    }
+
+    private void createBatchedFieldWiring(String type, String field, MethodInvoker methodInvoker, Object resolver) {
+        boolean blocking = isBlocking(methodInvoker);
+        InvocationPolicy policy = getInvocationPolicy(methodInvoker, resolver);
+        boolean mergeSelections = methodInvoker.getAnnotation(Batched.class).map(Batched::mergeSelections).orElse(false);
+        createDataLoaderFieldWiring(
+                type,
+                field,
+                methodInvoker,
+                methodInvoker.isBatchedByArguments() ? DataLoaderKey::byArguments : DataLoaderKey::new,
+                mergeSelections,
+                (sources, arguments, selection, context) -> invoke(methodInvoker, policy, blocking, sources, arguments, selection, context)
+        );
+    }
+
+    private void createAutoBatchedFieldWiring(String type, String field, MethodInvoker methodInvoker, Object resolver) {
+        String bulk = methodInvoker.getAnnotation(AutoBatch.class).map(AutoBatch::bulk).orElse("");
+        if (bulk.isEmpty()) {
+            InvocationPolicy policy = getInvocationPolicy(methodInvoker, resolver);
+            createDataLoaderFieldWiring(
+                    type,
+                    field,
+                    methodInvoker,
+                    DataLoaderKey::new,
+                    false,
+                    (sources, arguments, selection, context) -> {
+                        List<Object> sourceList = new ArrayList<>(sources);
+                        List<CompletableFuture<Object>> futures = sourceList
+                                .stream()
+                                .map(source -> this.<Object>invoke(methodInvoker, policy, true, source, arguments, selection, context)
+                                        .handle((result, throwable) -> throwable == null ? result : Try.failed(unwrap(throwable))))
+                                .collect(toList());
+                        return parallelise(futures).thenApply(results -> {
+                            Map<Object, Object> resultsBySource = new HashMap<>();
+                            for (int i = 0; i < sourceList.size(); i++) {
+                                resultsBySource.put(sourceList.get(i), results.get(i));
+                            }
+                            return resultsBySource;
+                        });
+                    }
+            );
+        } else {
+            MethodInvoker bulkMethodInvoker = MethodInvoker.of(getNamedMethod(resolver.getClass(), bulk, "bulk", methodInvoker), resolver);
+            // the bulk method stands in for the field one, which carries all the annotations
+            for (Class<? extends Annotation> annotationType : BULK_IGNORED_ANNOTATIONS) {
+                if (bulkMethodInvoker.getAnnotation(annotationType).isPresent()) {
+                    throw new IllegalStateException(format(
+                            "%s is the bulk method of %s, so it can't be annotated with @%s: annotate the latter instead",
+                            bulkMethodInvoker,
+                            methodInvoker,
+                            annotationType.getSimpleName()
+                    ));
+                }
+            }
+            boolean blocking = isBlocking(methodInvoker);
+            InvocationPolicy policy = getInvocationPolicy(methodInvoker, resolver);
+            createDataLoaderFieldWiring(
+                    type,
+                    field,
+                    methodInvoker,
+                    DataLoaderKey::new,
+                    false,
+                    (sources, arguments, selection, context) -> invoke(bulkMethodInvoker, policy, blocking, sources, arguments, selection, context)
+            );
+        }
+    }
+
+    private void createSimpleFieldWiring(String type, String field, MethodInvoker methodInvoker, Object resolver) {
         int selectionDepth = getSelectionDepth(methodInvoker);
+        boolean blocking = isBlocking(methodInvoker);
+        InvocationPolicy policy = getInvocationPolicy(methodInvoker, resolver);
+        boolean cached = isCached(methodInvoker);
         fieldWirings.add(new FieldWiring(
                 type,
                 field,
                 environment -> invoke(
                         methodInvoker,
+                        policy,
+                        blocking,
+                        cached,
                         environment.getSource(),
-                        new DefaultArguments(environment),
+                        // cached keys need arguments that outlive the query, and that can be persisted
+                        cached ? DefaultArguments.canonical(environment.getArguments()) : new DefaultArguments(environment),
                         new DefaultSelection(environment, selectionDepth),
                         environment.getContext()
+                ),
+                false,
+                methodInvoker
+        ));
+    }
+
+    private void createSubscriptionFieldWiring(String type, String field, MethodInvoker methodInvoker) {
+        // events are published as they come, so there is nothing to batch, cache or retry, nor any blocking call to offload
+        for (Class<? extends Annotation> annotationType : NON_SUBSCRIPTION_ANNOTATIONS) {
+            if (methodInvoker.getAnnotationOrTypeAnnotation(annotationType).isPresent()) {
+                throw new IllegalStateException(format(
+                        "%s resolves a subscription field, so it can't be annotated with @%s",
+                        methodInvoker,
+                        annotationType.getSimpleName()
+                ));
+            }
+        }
+        int selectionDepth = getSelectionDepth(methodInvoker);
+        fieldWirings.add(new FieldWiring(
+                type,
+                field,
+                environment -> {
+                    Object context = environment.getContext();
+                    Cancellation cancellation = cancellationExtractor.apply(context);
+                    cancellation.throwIfCancelled();
+                    Object returnedValue = methodInvoker.invoke(
+                            environment.getSource(),
+                            new DefaultArguments(environment),
+                            new DefaultSelection(environment, selectionDepth),
+                            cancellation
+                    );
+                    return CompletableFuture.completedFuture(new EventPublisher(
+                            toPublisher(returnedValue, methodInvoker),
+                            event -> converters.convert(event, context),
+                            cancellation
+                    ));
+                },
+                false,
+                methodInvoker
+        ));
+    }
+
+    private void createMemoizedFieldWiring(String type, String field, MethodInvoker methodInvoker, Object resolver) {
+        String dataLoaderKey = methodInvoker.toString();
+        boolean blocking = isBlocking(methodInvoker);
+        InvocationPolicy policy = getInvocationPolicy(methodInvoker, resolver);
+        DataLoaderOptions options = newOptions().setBatchingEnabled(false);
+        if (methodInvoker.getAnnotation(Memoize.class).map(Memoize::identity).orElse(false)) {
+            options.setCacheKeyFunction(key -> ((DataLoaderKey) key).toIdentityKey());
+        }
+        boolean cached = isCached(methodInvoker);
+        Supplier<DataLoader<DataLoaderKey, Object>> dataLoaderSupplier = () -> newDataLoader(keys -> parallelise(keys
+                .stream()
+                .map(key -> invoke(
+                        methodInvoker,
+                        policy,
+                        blocking,
+                        cached,
+                        key.getSource(),
+                        key.getDiscriminator().getArguments(),
+                        key.getDiscriminator().getSelection(),
+                        key.getContext()
+                ).thenApply(result -> LazyIterable.wrap(result, true)))
+                .collect(toList())
+        ), options);
+        dataLoaderRegistrars.add(
+                new DataLoaderRegistrar(
+                        dataLoaderKey,
+                        dataLoaderSupplier
                 )
+        );
+        int selectionDepth = getSelectionDepth(methodInvoker);
+        fieldWirings.add(new FieldWiring(
+                type,
+                field,
+                environment -> environment
+                        .<DataLoaderKey, Object>getDataLoader(dataLoaderKey)
+                        .load(new DataLoaderKey(environment, selectionDepth)),
+                false,
+                methodInvoker
         ));
     }
 
-    private void inspect(Object resolver) {
+    private void inspect(Object resolver, @Nullable WiringSnapshot snapshot) {
         Stream
                 .of(resolver)
                 .map(Object::getClass)
                 .filter(clazz -> clazz.isAnnotationPresent(TypeResolver.class))
                 .forEach(clazz -> {
                     String type = clazz.getAnnotation(TypeResolver.class).value();
-                    Stream
-                            .of(clazz.getMethods())
-                            .flatMap(method -> getMethodAnnotatedWith(method, FieldResolver.class).map(Stream::of).orElseGet(Stream::empty))
-                            .forEach(annotatedMethod -> {
-                                String field = annotatedMethod.getDeclaredAnnotation(FieldResolver.class).value();
-                                MethodInvoker methodInvoker = MethodInvoker.of(annotatedMethod, resolver);
-                                if (annotatedMethod.isAnnotationPresent(Batched.class)) {
-                                    createBatchedFieldWiring(type, field, methodInvoker);
-                                } else {
-                                    createSimpleFieldWiring(type, field, methodInvoker);
-                                }
-                            });
+                    List<Method> annotatedMethods = snapshot == null
+                            ? getAnnotatedMethods(clazz)
+                            : snapshot.getAnnotatedMethods(clazz, ResolverInspection::getAnnotatedMethods);
+                    annotatedMethods.forEach(annotatedMethod -> {
+                        String field = annotatedMethod.getDeclaredAnnotation(FieldResolver.class).value();
+                        MethodInvoker methodInvoker = MethodInvoker.of(annotatedMethod, resolver);
+                        methodInvoker
+                                .getAnnotation(Cost.class)
+                                .ifPresent(cost -> costs.put(coordinates(type, field), cost));
+                        if (subscriptionTypeName.equals(type)) {
+                            createSubscriptionFieldWiring(type, field, methodInvoker);
+                        } else if (annotatedMethod.isAnnotationPresent(Batched.class)) {
+                            createBatchedFieldWiring(type, field, methodInvoker, resolver);
+                        } else if (annotatedMethod.isAnnotationPresent(AutoBatch.class)) {
+                            createAutoBatchedFieldWiring(type, field, methodInvoker, resolver);
+                        } else if (annotatedMethod.isAnnotationPresent(Memoize.class)) {
+                            createMemoizedFieldWiring(type, field, methodInvoker, resolver);
+                        } else {
+                            createSimpleFieldWiring(type, field, methodInvoker, resolver);
+                        }
+                    });
                 });
     }
 
-    static ResolverInspection inspect(Collection<Object> resolvers, Converters converters) {
-        ResolverInspection inspector = new ResolverInspection(converters);
-        resolvers.forEach(inspector::inspect);
+    static ResolverInspection inspect(
+            Collection<Object> resolvers,
+            Converters converters,
+            Executor blockingExecutor,
+            Function<Object, Cancellation> cancellationExtractor,
+            @Nullable ResultCache resultCache,
+            String subscriptionTypeName,
+            @Nullable WiringSnapshot snapshot
+    ) {
+        ResolverInspection inspector = new ResolverInspection(converters, blockingExecutor, cancellationExtractor, resultCache, subscriptionTypeName);
+        resolvers
+                .parallelStream()
+                .map(resolver -> {
+                    ResolverInspection resolverInspector = new ResolverInspection(converters, blockingExecutor, cancellationExtractor, resultCache, subscriptionTypeName);
+                    resolverInspector.inspect(resolver, snapshot);
+                    return resolverInspector;
+                })
+                .collect(toList())
+                .forEach(resolverInspector -> {
+                    inspector.fieldWirings.addAll(resolverInspector.fieldWirings);
+                    inspector.dataLoaderRegistrars.addAll(resolverInspector.dataLoaderRegistrars);
+                    inspector.costs.putAll(resolverInspector.costs);
+                });
         return inspector;
     }
 
+    private static List<Method> getAnnotatedMethods(Class<?> clazz) {
+        return Stream
+                .of(clazz.getMethods())
+                .sorted(comparing(Method::toGenericString))
+                .flatMap(method -> getMethodAnnotatedWith(method, FieldResolver.class).map(Stream::of).orElseGet(Stream::empty))
+                .collect(toList());
+    }
+
+    private static Method getNamedMethod(Class<?> clazz, String name, String role, MethodInvoker methodInvoker) {
+        List<Method> candidates = Stream
+                .of(clazz.getMethods())
+                .filter(method -> method.getName().equals(name))
+                .collect(toList());
+        if (candidates.size() != 1) {
+            throw new IllegalStateException(format(
+                    "Expected exactly one public method named '%s' in %s to be used as %s method of %s, found %d",
+                    name,
+                    clazz.getName(),
+                    role,
+                    methodInvoker,
+                    candidates.size()
+            ));
+        }
+        return candidates.get(0);
+    }
+
+    private static Publisher<Object> toPublisher(Object returnedValue, MethodInvoker methodInvoker) {
+        if (returnedValue instanceof Publisher) {
+            return (Publisher<Object>) returnedValue;
+        } else if (returnedValue instanceof Stream) {
+            return new StreamPublisher((Stream<?>) returnedValue);
+        }
+        throw new IllegalStateException(format(
+                "Expected %s to return a Publisher or a Stream, got %s",
+                methodInvoker,
+                returnedValue
+        ));
+    }
+
     private static <T> CompletableFuture<List<T>> parallelise(List<CompletableFuture<T>> futures) {
         return CompletableFuture
                 .allOf(futures.toArray(new CompletableFuture[0]))
@@ -198,6 +604,12 @@ final class ResolverInspection {
                 );
     }
 
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
     private static <K, V> Map<K, V> merge(Map<K, V> firstMap, Map<K, V> secondMap) {
         Map<K, V> resultingMap = new HashMap<>();
         resultingMap.putAll(firstMap);
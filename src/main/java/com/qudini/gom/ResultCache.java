@@ -0,0 +1,12 @@
+package com.qudini.gom;
+
+import javax.annotation.Nullable;
+
+public interface ResultCache {
+
+    @Nullable
+    Object get(Object key);
+
+    void put(Object key, Object value);
+
+}
@@ -0,0 +1,74 @@
+package com.qudini.gom;
+
+import lombok.NoArgsConstructor;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static java.lang.String.format;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+public final class ResultCaches {
+
+    @NoArgsConstructor(access = PRIVATE)
+    private static final class JavaSerializer implements ResultSerializer {
+
+        private static final JavaSerializer INSTANCE = new JavaSerializer();
+
+        @Nonnull
+        @Override
+        public byte[] serialize(Object value) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(format("Could not serialize %s", value), e);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Nonnull
+        @Override
+        public Object deserialize(byte[] bytes) {
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                return input.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException("Could not deserialize a cached result", e);
+            }
+        }
+
+    }
+
+    @Nonnull
+    public static ResultCache newOnHeapCache(int maxEntries) {
+        return new OnHeapResultCache(maxEntries);
+    }
+
+    @Nonnull
+    public static ResultCache newOffHeapCache(long capacity, int slabSize, ResultSerializer serializer) {
+        return new OffHeapResultCache(capacity, slabSize, serializer);
+    }
+
+    @Nonnull
+    public static ResultCache newPersistentCache(Path path, int capacity, Duration ttl, ResultSerializer serializer) {
+        return new PersistentResultCache(path, capacity, ttl, serializer, System::currentTimeMillis);
+    }
+
+    @Nonnull
+    public static ResultCache newTieredCache(ResultCache hotTier, ResultCache secondLevel) {
+        return new TieredResultCache(hotTier, secondLevel);
+    }
+
+    @Nonnull
+    public static ResultSerializer javaSerializer() {
+        return JavaSerializer.INSTANCE;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.qudini.gom;
+
+import javax.annotation.Nonnull;
+
+public interface ResultSerializer {
+
+    @Nonnull
+    byte[] serialize(Object value);
+
+    @Nonnull
+    Object deserialize(byte[] bytes);
+
+}
@@ -0,0 +1,20 @@
+package com.qudini.gom;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface Retry {
+
+    int max() default 3;
+
+    long backoff() default 0;
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+}
@@ -0,0 +1,121 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static lombok.AccessLevel.PACKAGE;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+final class StreamPublisher implements Publisher<Object> {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class StreamSubscription implements Subscription {
+
+        private final Subscriber<? super Object> subscriber;
+
+        private final Stream<?> stream;
+
+        private final Iterator<?> iterator;
+
+        private final AtomicLong demand = new AtomicLong(0);
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        /*
+         * Elements are emitted by whichever thread brings the demand up from zero, until it is back to zero. Cancelling and
+         * invalid requests add some demand too, so that the stream only ever gets iterated and closed by that thread.
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException(format("The number of requested elements must be positive, got %d", n));
+                n = 1;
+            }
+            if (addDemand(n) == 0) {
+                emit(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            if (addDemand(1) == 0) {
+                emit(1);
+            }
+        }
+
+        private void emit(long requested) {
+            long emitted = 0;
+            do {
+                try {
+                    while (emitted < requested) {
+                        if (cancelled) {
+                            stream.close();
+                            return;
+                        } else if (invalidRequest != null) {
+                            terminate(invalidRequest);
+                            return;
+                        } else if (!iterator.hasNext()) {
+                            terminate(null);
+                            return;
+                        }
+                        Object element = iterator.next();
+                        if (element != null) {
+                            subscriber.onNext(element);
+                            emitted++;
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    terminate(e);
+                    return;
+                }
+                requested = demand.addAndGet(-emitted);
+                emitted = 0;
+            } while (requested > 0);
+        }
+
+        private long addDemand(long n) {
+            long current;
+            long next;
+            do {
+                current = demand.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!demand.compareAndSet(current, next));
+            return current;
+        }
+
+        private void terminate(Throwable throwable) {
+            stream.close();
+            if (throwable == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(throwable);
+            }
+        }
+
+    }
+
+    private final Stream<?> stream;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    @Override
+    public void subscribe(Subscriber<? super Object> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            throw new IllegalStateException("A stream can only be subscribed to once");
+        }
+        subscriber.onSubscribe(new StreamSubscription(subscriber, stream, stream.iterator()));
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nullable;
+
+import static lombok.AccessLevel.PACKAGE;
+
+/*
+ * The expiry of the second level's entries isn't known here, so once promoted they stay in the hot tier until evicted from it.
+ */
+@RequiredArgsConstructor(access = PACKAGE)
+final class TieredResultCache implements ResultCache {
+
+    private final ResultCache hotTier;
+
+    private final ResultCache secondLevel;
+
+    @Nullable
+    @Override
+    public Object get(Object key) {
+        Object value = hotTier.get(key);
+        if (value == null) {
+            value = secondLevel.get(key);
+            if (value != null) {
+                hotTier.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        hotTier.put(key, value);
+        secondLevel.put(key, value);
+    }
+
+}
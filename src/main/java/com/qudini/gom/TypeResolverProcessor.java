@@ -0,0 +1,94 @@
+package com.qudini.gom;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+
+@SupportedAnnotationTypes("com.qudini.gom.TypeResolver")
+public final class TypeResolverProcessor extends AbstractProcessor {
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(TypeResolver.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+            }
+        }
+        if (roundEnvironment.processingOver()) {
+            Set<String> indexedClassNames = readIndex();
+            if (!classNames.isEmpty() || !indexedClassNames.isEmpty()) {
+                classNames.addAll(indexedClassNames);
+                writeIndex();
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Incremental compilations only process the changed sources, so the resolvers indexed by a previous compilation are
+     * kept, as long as they still exist and are still annotated.
+     */
+    private Set<String> readIndex() {
+        Set<String> indexedClassNames = new TreeSet<>();
+        try {
+            FileObject index = processingEnv.getFiler().getResource(CLASS_OUTPUT, "", TypeResolverScanner.INDEX);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openInputStream(), UTF_8))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    String className = line.trim();
+                    if (!className.isEmpty() && !className.startsWith("#") && isTypeResolver(className)) {
+                        indexedClassNames.add(className);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no index yet
+        }
+        return indexedClassNames;
+    }
+
+    private boolean isTypeResolver(String className) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+        return element != null && element.getAnnotation(TypeResolver.class) != null;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(CLASS_OUTPUT, "", TypeResolverScanner.INDEX);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), UTF_8)) {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Could not write " + TypeResolverScanner.INDEX + ": " + e.getMessage()
+            );
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.qudini.gom;
+
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+public final class TypeResolverScanner {
+
+    static final String INDEX = "META-INF/gom/type-resolvers";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private static final byte[] ANNOTATION_DESCRIPTOR = format("L%s;", TypeResolver.class.getName().replace('.', '/'))
+            .getBytes(UTF_8);
+
+    @Nonnull
+    public static Set<Class<?>> scan(String packageName) {
+        return scan(Thread.currentThread().getContextClassLoader(), packageName);
+    }
+
+    @Nonnull
+    @SneakyThrows
+    public static Set<Class<?>> scan(ClassLoader classLoader, String packageName) {
+        String packagePath = packageName.replace('.', '/');
+        Set<String> classNames = new TreeSet<>();
+        Set<String> indexedRoots = new HashSet<>();
+        for (URL index : Collections.list(classLoader.getResources(INDEX))) {
+            indexedRoots.add(getRoot(index, INDEX));
+            readIndex(index)
+                    .stream()
+                    .filter(className -> isInPackage(className, packageName))
+                    .forEach(classNames::add);
+        }
+        for (URL packageUrl : Collections.list(classLoader.getResources(packagePath))) {
+            if (!indexedRoots.contains(getRoot(packageUrl, packagePath))) {
+                classNames.addAll(scanClassNames(packageUrl, packagePath));
+            }
+        }
+        return classNames
+                .parallelStream()
+                .map(className -> load(classLoader, className))
+                .filter(TypeResolverScanner::isTypeResolver)
+                .collect(toCollection(LinkedHashSet::new));
+    }
+
+    static Collection<String> scanClassNames(URL packageUrl, String packagePath) throws IOException {
+        switch (packageUrl.getProtocol()) {
+            case "file":
+                return scanDirectory(packageUrl, packagePath);
+            case "jar":
+                return scanJar(packageUrl, packagePath);
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    @SneakyThrows
+    private static Collection<String> scanDirectory(URL packageUrl, String packagePath) {
+        Path packageDirectory = Paths.get(packageUrl.toURI());
+        try (Stream<Path> paths = Files.walk(packageDirectory)) {
+            return paths
+                    .parallel()
+                    .filter(path -> path.toString().endsWith(CLASS_SUFFIX))
+                    .filter(path -> containsAnnotationDescriptor(readAllBytes(path)))
+                    .map(path -> toClassName(packagePath + "/" + packageDirectory.relativize(path).toString().replace('\\', '/')))
+                    .collect(toList());
+        }
+    }
+
+    private static Collection<String> scanJar(URL packageUrl, String packagePath) throws IOException {
+        URL jarFileUrl = ((JarURLConnection) packageUrl.openConnection()).getJarFileURL();
+        JarURLConnection connection = (JarURLConnection) new URL("jar:" + jarFileUrl + "!/").openConnection();
+        connection.setUseCaches(false);
+        String prefix = packagePath.isEmpty() ? "" : packagePath + "/";
+        try (JarFile jar = connection.getJarFile()) {
+            return jar
+                    .stream()
+                    .parallel()
+                    .filter(entry -> entry.getName().startsWith(prefix) && entry.getName().endsWith(CLASS_SUFFIX))
+                    .filter(entry -> containsAnnotationDescriptor(readAllBytes(jar, entry.getName())))
+                    .map(entry -> toClassName(entry.getName()))
+                    .collect(toList());
+        }
+    }
+
+    private static List<String> readIndex(URL index) throws IOException {
+        URLConnection connection = index.openConnection();
+        connection.setUseCaches(false);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8))) {
+            return reader
+                    .lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(toList());
+        }
+    }
+
+    private static String getRoot(URL url, String path) {
+        String location = url.toString();
+        if (location.endsWith("/")) {
+            location = location.substring(0, location.length() - 1);
+        }
+        return location.substring(0, location.length() - path.length());
+    }
+
+    private static boolean isInPackage(String className, String packageName) {
+        return packageName.isEmpty() || className.startsWith(packageName + ".");
+    }
+
+    private static String toClassName(String entryName) {
+        return entryName
+                .substring(0, entryName.length() - CLASS_SUFFIX.length())
+                .replace('/', '.');
+    }
+
+    private static Class<?> load(ClassLoader classLoader, String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new IllegalStateException(format("Could not load type resolver %s", className), e);
+        }
+    }
+
+    private static boolean isTypeResolver(Class<?> clazz) {
+        return !clazz.isInterface()
+                && !clazz.isAnnotation()
+                && !clazz.isLocalClass()
+                && !clazz.isAnonymousClass()
+                && clazz.isAnnotationPresent(TypeResolver.class);
+    }
+
+    private static boolean containsAnnotationDescriptor(byte[] bytes) {
+        outer:
+        for (int i = 0; i <= bytes.length - ANNOTATION_DESCRIPTOR.length; i++) {
+            for (int j = 0; j < ANNOTATION_DESCRIPTOR.length; j++) {
+                if (bytes[i + j] != ANNOTATION_DESCRIPTOR[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @SneakyThrows
+    private static byte[] readAllBytes(Path path) {
+        return Files.readAllBytes(path);
+    }
+
+    @SneakyThrows
+    private static byte[] readAllBytes(JarFile jar, String entryName) {
+        try (InputStream input = jar.getInputStream(jar.getEntry(entryName))) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        }
+    }
+
+}
@@ -0,0 +1,293 @@
+package com.qudini.gom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+@Slf4j
+final class WiringSnapshot {
+
+    static final int MAGIC = 0x474F4D53;
+
+    static final int VERSION = 2;
+
+    private static final long NO_FINGERPRINT = -1;
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+    static {
+        for (Class<?> primitiveType : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class}) {
+            PRIMITIVE_TYPES.put(primitiveType.getName(), primitiveType);
+        }
+    }
+
+    private static final ClassValue<Long> FINGERPRINTS = new ClassValue<Long>() {
+
+        @Override
+        protected Long computeValue(Class<?> clazz) {
+            return computeFingerprint(clazz);
+        }
+
+    };
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class ClassEntry {
+
+        private final long fingerprint;
+
+        private final List<MethodReference> methods;
+
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class MethodReference {
+
+        private final String declaringClassName;
+
+        private final String name;
+
+        private final List<String> parameterTypeNames;
+
+        private static MethodReference of(Method method) {
+            return new MethodReference(
+                    method.getDeclaringClass().getName(),
+                    method.getName(),
+                    toNames(method.getParameterTypes())
+            );
+        }
+
+        private Method resolve(ClassLoader classLoader) throws ReflectiveOperationException {
+            Class<?>[] parameterTypes = new Class<?>[parameterTypeNames.size()];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = load(parameterTypeNames.get(i), classLoader);
+            }
+            return load(declaringClassName, classLoader).getDeclaredMethod(name, parameterTypes);
+        }
+
+    }
+
+    private final Path path;
+
+    private final Map<String, ClassEntry> restoredEntries;
+
+    private final Map<String, ClassEntry> currentEntries = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean changed = new AtomicBoolean(false);
+
+    List<Method> getAnnotatedMethods(Class<?> clazz, Function<Class<?>, List<Method>> inspection) {
+        long fingerprint = FINGERPRINTS.get(clazz);
+        if (fingerprint == NO_FINGERPRINT) {
+            return inspection.apply(clazz);
+        }
+        ClassEntry restoredEntry = restoredEntries.get(clazz.getName());
+        if (restoredEntry != null && restoredEntry.fingerprint == fingerprint) {
+            Optional<List<Method>> restoredMethods = resolve(restoredEntry, clazz.getClassLoader());
+            if (restoredMethods.isPresent()) {
+                currentEntries.put(clazz.getName(), restoredEntry);
+                return restoredMethods.get();
+            }
+        }
+        List<Method> annotatedMethods = inspection.apply(clazz);
+        currentEntries.put(clazz.getName(), new ClassEntry(
+                fingerprint,
+                annotatedMethods.stream().map(MethodReference::of).collect(toList())
+        ));
+        changed.set(true);
+        return annotatedMethods;
+    }
+
+    void writeIfChanged() {
+        if (!changed.get() && restoredEntries.keySet().equals(currentEntries.keySet())) {
+            return;
+        }
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Path temporaryFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                    write(output, new TreeMap<>(currentEntries));
+                }
+                Files.move(temporaryFile, path, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            // e.g. a read-only directory: the resolvers will simply be inspected again on the next startup
+            log.warn("Could not write the wiring snapshot to {}", path, e);
+        }
+    }
+
+    static WiringSnapshot read(Path path) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return new WiringSnapshot(path, read(input));
+        } catch (NoSuchFileException e) {
+            // not written yet
+            return new WiringSnapshot(path, Collections.emptyMap());
+        } catch (IOException | RuntimeException e) {
+            // unreadable or truncated: the resolvers will simply be inspected again
+            log.warn("Could not read the wiring snapshot from {}", path, e);
+            return new WiringSnapshot(path, Collections.emptyMap());
+        }
+    }
+
+    private static Map<String, ClassEntry> read(DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            return Collections.emptyMap();
+        }
+        int classCount = input.readInt();
+        Map<String, ClassEntry> entries = new HashMap<>();
+        for (int i = 0; i < classCount; i++) {
+            String className = input.readUTF();
+            long fingerprint = input.readLong();
+            int methodCount = input.readInt();
+            List<MethodReference> methods = new ArrayList<>();
+            for (int j = 0; j < methodCount; j++) {
+                String declaringClassName = input.readUTF();
+                String name = input.readUTF();
+                int parameterCount = input.readInt();
+                List<String> parameterTypeNames = new ArrayList<>();
+                for (int k = 0; k < parameterCount; k++) {
+                    parameterTypeNames.add(input.readUTF());
+                }
+                methods.add(new MethodReference(declaringClassName, name, parameterTypeNames));
+            }
+            entries.put(className, new ClassEntry(fingerprint, methods));
+        }
+        return entries;
+    }
+
+    private static void write(DataOutputStream output, Map<String, ClassEntry> entries) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(entries.size());
+        for (Map.Entry<String, ClassEntry> entry : entries.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeLong(entry.getValue().fingerprint);
+            output.writeInt(entry.getValue().methods.size());
+            for (MethodReference method : entry.getValue().methods) {
+                output.writeUTF(method.declaringClassName);
+                output.writeUTF(method.name);
+                output.writeInt(method.parameterTypeNames.size());
+                for (String parameterTypeName : method.parameterTypeNames) {
+                    output.writeUTF(parameterTypeName);
+                }
+            }
+        }
+    }
+
+    private static Optional<List<Method>> resolve(ClassEntry entry, ClassLoader classLoader) {
+        List<Method> methods = new ArrayList<>(entry.methods.size());
+        for (MethodReference method : entry.methods) {
+            try {
+                methods.add(method.resolve(classLoader));
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(methods);
+    }
+
+    /*
+     * Reading the bytecode of every resolver class (and of its superclasses) on startup costs about as much as inspecting
+     * them, so the fingerprint is made of the size and modification time of the files they come from instead: the class
+     * files themselves for directories, or the whole archives for jars.
+     */
+    static long computeFingerprint(Class<?> clazz) {
+        CRC32 crc = new CRC32();
+        return update(crc, clazz) ? crc.getValue() : NO_FINGERPRINT;
+    }
+
+    private static boolean update(CRC32 crc, @Nullable Class<?> clazz) {
+        if (clazz == null || clazz.getName().startsWith("java.")) {
+            return true;
+        }
+        Optional<Path> file = getClassFile(clazz);
+        if (!file.isPresent()) {
+            return false;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file.get(), BasicFileAttributes.class);
+            crc.update(ByteBuffer
+                    .allocate(16)
+                    .putLong(attributes.size())
+                    .putLong(attributes.lastModifiedTime().toMillis())
+                    .array()
+            );
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not fingerprint {}, it will be inspected on every startup", clazz, e);
+            return false;
+        }
+        for (Class<?> implementedInterface : clazz.getInterfaces()) {
+            if (!update(crc, implementedInterface)) {
+                return false;
+            }
+        }
+        return update(crc, clazz.getSuperclass());
+    }
+
+    private static Optional<Path> getClassFile(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return Optional.empty();
+        }
+        try {
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            return Optional.of(Files.isDirectory(location)
+                    ? location.resolve(clazz.getName().replace('.', '/') + ".class")
+                    : location
+            );
+        } catch (URISyntaxException | RuntimeException e) {
+            // not on the default file system, e.g. nested in another archive
+            return Optional.empty();
+        }
+    }
+
+    private static Class<?> load(String className, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?> primitiveType = PRIMITIVE_TYPES.get(className);
+        return primitiveType == null ? Class.forName(className, false, classLoader) : primitiveType;
+    }
+
+    private static List<String> toNames(Class<?>[] classes) {
+        List<String> names = new ArrayList<>(classes.length);
+        for (Class<?> clazz : classes) {
+            names.add(clazz.getName());
+        }
+        return names;
+    }
+
+}
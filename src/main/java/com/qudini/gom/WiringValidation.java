@@ -0,0 +1,143 @@
+package com.qudini.gom;
+
+import graphql.language.FieldDefinition;
+import graphql.language.InputValueDefinition;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.SchemaDefinition;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.lang.String.join;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+final class WiringValidation {
+
+    private static final List<String> DEFAULT_ROOT_TYPE_NAMES = asList("Query", "Mutation", "Subscription");
+
+    static void validate(Collection<FieldWiring> fieldWirings, Converters converters, TypeDefinitionRegistry registry) {
+        Set<String> rootTypeNames = getRootTypeNames(registry);
+        List<String> errors = new ArrayList<>();
+        Set<String> wiredFields = new HashSet<>();
+        for (FieldWiring fieldWiring : fieldWirings) {
+            String typeName = fieldWiring.getTypeName();
+            String fieldName = fieldWiring.getFieldName();
+            MethodInvoker methodInvoker = fieldWiring.getMethodInvoker();
+            wiredFields.add(typeName + "." + fieldName);
+            Optional<ObjectTypeDefinition> type = registry.getType(typeName, ObjectTypeDefinition.class);
+            if (!type.isPresent()) {
+                errors.add(format("Unknown type '%s' resolved by %s", typeName, methodInvoker));
+                continue;
+            }
+            Optional<FieldDefinition> field = Optional
+                    .ofNullable(getFieldDefinitions(registry, type.get()).get(fieldName));
+            if (!field.isPresent()) {
+                errors.add(format("Unknown field '%s.%s' resolved by %s", typeName, fieldName, methodInvoker));
+                continue;
+            }
+            boolean root = rootTypeNames.contains(typeName);
+            if (methodInvoker.isSourceMisplaced()) {
+                errors.add(format("Unexpected parameters in %s: the source must be the first one", methodInvoker));
+            } else if (root && methodInvoker.isSourceExpected() && !methodInvoker.isBatchedByArguments()) {
+                errors.add(format("Unexpected source parameter in %s: '%s' is a root type", methodInvoker, typeName));
+            } else if (!root && !methodInvoker.isSourceExpected() && methodInvoker.getParameterCount() > 0) {
+                errors.add(format("Missing source parameter in %s: '%s' is not a root type", methodInvoker, typeName));
+            } else if (!root && methodInvoker.isBatchedByArguments()) {
+                // the sources would be dropped from the batch keys, so that all of them would get the same results
+                errors.add(format("Unexpected Set<Arguments> parameter in %s: '%s' is not a root type", methodInvoker, typeName));
+            }
+            // root fields have no sources to group the batched calls by
+            if (root && methodInvoker.getAnnotation(AutoBatch.class).isPresent()) {
+                errors.add(format("Unexpected @AutoBatch on %s: '%s' is a root type", methodInvoker, typeName));
+            } else if (root && methodInvoker.getAnnotation(Batched.class).isPresent() && !methodInvoker.isBatchedByArguments()) {
+                errors.add(format("Missing Set<Arguments> parameter in %s: '%s' is a root type", methodInvoker, typeName));
+            }
+            if (methodInvoker.getAnnotation(Batched.class).isPresent() && !isBatchReturnType(methodInvoker.getReturnType(), converters)) {
+                errors.add(format("Unexpected return type in %s: @Batched resolvers must return a Map", methodInvoker));
+            }
+            Set<String> argumentNames = field
+                    .get()
+                    .getInputValueDefinitions()
+                    .stream()
+                    .map(InputValueDefinition::getName)
+                    .collect(toSet());
+            methodInvoker
+                    .getBoundArgumentNames()
+                    .stream()
+                    .filter(argumentName -> !argumentNames.contains(argumentName))
+                    .forEach(argumentName -> errors.add(format(
+                            "Unknown argument '%s' of '%s.%s' bound by %s",
+                            argumentName,
+                            typeName,
+                            fieldName,
+                            methodInvoker
+                    )));
+        }
+        for (ObjectTypeDefinition type : registry.getTypes(ObjectTypeDefinition.class)) {
+            boolean root = rootTypeNames.contains(type.getName());
+            getFieldDefinitions(registry, type)
+                    .values()
+                    .stream()
+                    .filter(field -> root || !field.getInputValueDefinitions().isEmpty())
+                    .filter(field -> !wiredFields.contains(type.getName() + "." + field.getName()))
+                    .forEach(field -> errors.add(format("Missing resolver for '%s.%s'", type.getName(), field.getName())));
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(format("Invalid wiring:%n- %s", join(format("%n- "), errors)));
+        }
+    }
+
+    static Map<String, Set<String>> getFieldNames(TypeDefinitionRegistry registry) {
+        return registry
+                .getTypes(ObjectTypeDefinition.class)
+                .stream()
+                .collect(toMap(ObjectTypeDefinition::getName, type -> getFieldDefinitions(registry, type).keySet()));
+    }
+
+    private static Set<String> getRootTypeNames(TypeDefinitionRegistry registry) {
+        return registry
+                .schemaDefinition()
+                .map(SchemaDefinition::getOperationTypeDefinitions)
+                .map(operationTypes -> operationTypes
+                        .stream()
+                        .map(operationType -> operationType.getTypeName().getName())
+                        .collect(toSet()))
+                .orElseGet(() -> new HashSet<>(DEFAULT_ROOT_TYPE_NAMES));
+    }
+
+    private static Map<String, FieldDefinition> getFieldDefinitions(TypeDefinitionRegistry registry, ObjectTypeDefinition type) {
+        return Stream
+                .concat(
+                        type.getFieldDefinitions().stream(),
+                        registry
+                                .objectTypeExtensions()
+                                .getOrDefault(type.getName(), emptyList())
+                                .stream()
+                                .flatMap(extension -> extension.getFieldDefinitions().stream())
+                )
+                .collect(toMap(FieldDefinition::getName, identity(), (first, second) -> first));
+    }
+
+    private static boolean isBatchReturnType(Class<?> returnType, Converters converters) {
+        return Map.class.isAssignableFrom(returnType)
+                || CompletionStage.class.isAssignableFrom(returnType)
+                || converters.canConvert(returnType);
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import graphql.language.StringValue;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static graphql.schema.GraphQLScalarType.newScalar;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.joining;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public final class ArgsTest {
+
+    public enum MyEnum {
+        A,
+        B
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class FooArgs {
+
+        private String name;
+
+        private int count;
+
+        private MyEnum kind;
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class NumbersArgs {
+
+        private float ratio;
+
+        private Float boxedRatio;
+
+        private long total;
+
+        private Long boxedTotal;
+
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class MyInput {
+
+        private final String bar;
+
+        private final List<MyInput> children;
+
+    }
+
+    public static final class InvalidInput {
+
+        private final String bar;
+
+        private final String baz;
+
+        private InvalidInput(String bar) {
+            this.bar = bar;
+            this.baz = bar;
+        }
+
+    }
+
+    // a custom scalar value: it has fields but no constructor an input object could be bound to
+    public static final class Money {
+
+        private final int amount;
+
+        private final String currency;
+
+        private Money(String value) {
+            this.amount = Integer.parseInt(value.substring(0, value.length() - 3));
+            this.currency = value.substring(value.length() - 3);
+        }
+
+    }
+
+    private static final GraphQLScalarType MONEY = newScalar()
+            .name("Money")
+            .coercing(new Coercing<Money, String>() {
+
+                @Override
+                public String serialize(Object value) {
+                    throw new CoercingSerializeException();
+                }
+
+                @Override
+                public Money parseValue(Object value) {
+                    return new Money((String) value);
+                }
+
+                @Override
+                public Money parseLiteral(Object value) {
+                    return new Money(((StringValue) value).getValue());
+                }
+
+            })
+            .build();
+
+    @Test
+    public void settersBinding() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foo")
+            public String foo(@Args FooArgs args) {
+                return args.getName() + args.getCount() + args.getKind();
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("foobar2B", callExpectingData(gom, new Context()).get("foo"));
+    }
+
+    @Test
+    public void numbersBinding() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foo")
+            public String foo(@Args NumbersArgs args) {
+                return args.getRatio() + " " + args.getBoxedRatio() + " " + args.getTotal() + " " + args.getBoxedTotal();
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("0.5 1.5 2 3", callExpectingData(gom, new Context()).get("foo"));
+    }
+
+    @Test
+    public void constructorBinding() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foo")
+            public String foo(@Args("foo") MyInput input) {
+                return input.getBar() + input.getChildren().stream().map(MyInput::getBar).collect(joining());
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("foobarbaz", callExpectingData(gom, new Context()).get("foo"));
+    }
+
+    @Test
+    public void invalidBinding() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foo")
+            public String foo(@Args InvalidInput input) {
+                return input.bar;
+            }
+
+        }
+        String message = assertThrows(
+                IllegalStateException.class,
+                () -> newGom().resolvers(singletonList(new QueryResolver())).build()
+        ).getMessage();
+        assertTrue(message, message.contains("QueryResolver.foo("));
+        assertTrue(message, message.contains("InvalidInput"));
+    }
+
+    @Test
+    public void scalarBinding() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foo")
+            public String foo(@Args("foo") Money money) {
+                return money.amount + money.currency;
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("42EUR", callExpectingData(gom, new Context(), MONEY).get("foo"));
+    }
+
+}
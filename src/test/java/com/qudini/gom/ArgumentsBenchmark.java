@@ -0,0 +1,82 @@
+package com.qudini.gom;
+
+import com.qudini.gom.ArgumentsTest.MyEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentsBenchmark {
+
+    private Arguments arguments;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> input = new HashMap<>();
+        input.put("scalar", "value");
+        Map<String, Object> map = new HashMap<>();
+        map.put("scalar", "value");
+        map.put("enum", "B");
+        map.put("enumArray", asList("A", "B", "C"));
+        map.put("input", input);
+        map.put("inputArray", asList(input, input));
+        arguments = new DefaultArguments(map);
+    }
+
+    @Benchmark
+    public String get() {
+        return arguments.get("scalar");
+    }
+
+    @Benchmark
+    public MyEnum getEnum() {
+        return arguments.getEnum("enum", MyEnum.class);
+    }
+
+    @Benchmark
+    public List<MyEnum> getEnumArray() {
+        return arguments.getEnumArray("enumArray", MyEnum.class);
+    }
+
+    @Benchmark
+    public Arguments getInput() {
+        return arguments.getInput("input");
+    }
+
+    @Benchmark
+    public List<Arguments> getInputArray() {
+        return arguments.getInputArray("inputArray");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ArgumentsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+
+}
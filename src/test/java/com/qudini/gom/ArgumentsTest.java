@@ -11,6 +11,7 @@ import org.junit.Test;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -25,6 +26,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static lombok.AccessLevel.PRIVATE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -265,6 +267,40 @@ public final class ArgumentsTest {
         assertEquals("value", arguments.getInput("key").get("subkey"));
     }
 
+    @Test
+    public void getInputMemoized() {
+        Arguments arguments = new DefaultArguments(new HashMap<String, Object>() {{
+            put("key", new HashMap<String, Object>() {{
+                put("subkey", "value");
+            }});
+        }});
+        assertSame(arguments.getInput("key"), arguments.getInput("key"));
+    }
+
+    @Test
+    public void canonical() {
+        Arguments arguments1 = DefaultArguments.canonical(new HashMap<String, Object>() {{
+            put("key", new HashMap<String, Object>() {{
+                put("subkey", asList("foo", "bar"));
+            }});
+        }});
+        Arguments arguments2 = DefaultArguments.canonical(new HashMap<String, Object>() {{
+            put("key", new HashMap<String, Object>() {{
+                put("subkey", asList("foo", "bar"));
+            }});
+        }});
+        assertSame(arguments1, arguments2);
+        assertThrows(UnsupportedOperationException.class, () -> arguments1.getInput("key").<List<String>>get("subkey").add("baz"));
+    }
+
+    @Test
+    public void getEnumUnknown() {
+        Arguments arguments = new DefaultArguments(new HashMap<String, Object>() {{
+            put("key", "D");
+        }});
+        assertThrows(IllegalArgumentException.class, () -> arguments.getEnum("key", MyEnum.class));
+    }
+
     @Test
     public void getOptionalInputAbsent() {
         Arguments arguments = new DefaultArguments(new HashMap<String, Object>() {{
@@ -0,0 +1,246 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import graphql.ExecutionResult;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static com.qudini.gom.utils.QueryRunner.callExpectingPartialData;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+public final class AutoBatchTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class MyType {
+
+        private final String name;
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("Query")
+    public static final class QueryResolver {
+
+        @FieldResolver("myTypes")
+        public List<MyType> myTypes() {
+            return asList(new MyType("foo"), new MyType("bar"));
+        }
+
+    }
+
+    @Test
+    public void withoutBulk() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @AutoBatch
+            @FieldResolver("name")
+            public String name(MyType myType) {
+                callCount.incrementAndGet();
+                threads.add(Thread.currentThread());
+                return myType.getName() + "bar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("name"));
+        assertEquals("barbar", myTypes.get(1).get("name"));
+        assertEquals(2, callCount.get());
+        assertFalse(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void withoutBulkPartialFailure() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @AutoBatch
+            @FieldResolver("name")
+            public String name(MyType myType) {
+                if ("bar".equals(myType.getName())) {
+                    throw new IllegalArgumentException(myType.getName());
+                }
+                return myType.getName() + "bar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        ExecutionResult result = callExpectingPartialData(gom, new Context());
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) result.<Map<String, Object>>getData().get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("name"));
+        assertNull(myTypes.get(1).get("name"));
+        assertEquals(1, result.getErrors().size());
+    }
+
+    @Test
+    public void withBulk() {
+        AtomicInteger singleCallCount = new AtomicInteger(0);
+        AtomicInteger bulkCallCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @AutoBatch(bulk = "names")
+            @FieldResolver("name")
+            public String name(MyType myType) {
+                singleCallCount.incrementAndGet();
+                return myType.getName() + "bar";
+            }
+
+            public Map<MyType, String> names(Set<MyType> myTypes) {
+                bulkCallCount.incrementAndGet();
+                return myTypes
+                        .stream()
+                        .collect(toMap(identity(), myType -> myType.getName() + "bar"));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("name"));
+        assertEquals("barbar", myTypes.get(1).get("name"));
+        assertEquals(0, singleCallCount.get());
+        assertEquals(1, bulkCallCount.get());
+    }
+
+    @Test
+    public void withBulkAndArguments() {
+        AtomicInteger bulkCallCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @AutoBatch(bulk = "names")
+            @FieldResolver("name")
+            public String name(MyType myType, Arguments arguments) {
+                return myType.getName() + arguments.getOptional("suffix").orElse("");
+            }
+
+            public Map<MyType, String> names(Set<MyType> myTypes, Arguments arguments) {
+                bulkCallCount.incrementAndGet();
+                return myTypes
+                        .stream()
+                        .collect(toMap(identity(), myType -> myType.getName() + arguments.getOptional("suffix").orElse("")));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foo", myTypes.get(0).get("nameWithoutSuffix"));
+        assertEquals("foofoo", myTypes.get(0).get("nameWithFooSuffix"));
+        assertEquals("barbar", myTypes.get(1).get("nameWithBarSuffix"));
+        assertEquals(3, bulkCallCount.get());
+    }
+
+    @Test
+    public void withBulkAndRetry() {
+        AtomicInteger bulkCallCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Retry
+            @AutoBatch(bulk = "names")
+            @FieldResolver("name")
+            public String name(MyType myType) {
+                return myType.getName() + "bar";
+            }
+
+            public Map<MyType, String> names(Set<MyType> myTypes) {
+                if (bulkCallCount.incrementAndGet() == 1) {
+                    throw new IllegalStateException("first call");
+                }
+                return myTypes
+                        .stream()
+                        .collect(toMap(identity(), myType -> myType.getName() + "bar"));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("name"));
+        assertEquals("barbar", myTypes.get(1).get("name"));
+        assertEquals(2, bulkCallCount.get());
+    }
+
+    @Test
+    public void annotatedBulk() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @AutoBatch(bulk = "names")
+            @FieldResolver("name")
+            public String name(MyType myType) {
+                return myType.getName();
+            }
+
+            @Blocking
+            public Map<MyType, String> names(Set<MyType> myTypes) {
+                return myTypes
+                        .stream()
+                        .collect(toMap(identity(), MyType::getName));
+            }
+
+        }
+        assertThrows(
+                IllegalStateException.class,
+                () -> newGom()
+                        .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                        .build()
+        );
+    }
+
+    @Test
+    public void unknownBulk() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @AutoBatch(bulk = "unknown")
+            @FieldResolver("name")
+            public String name(MyType myType) {
+                return myType.getName();
+            }
+
+        }
+        assertThrows(IllegalStateException.class, () -> newGom()
+                .resolvers(singletonList(new MyTypeResolver()))
+                .build());
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public final class BlockingTest {
+
+    @Test
+    public void nonBlocking() {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foobar")
+            public String foobar() {
+                thread.set(Thread.currentThread());
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertEquals(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    public void blockingMethod() {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Blocking
+            @FieldResolver("foobar")
+            public String foobar() {
+                thread.set(Thread.currentThread());
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertNotEquals(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    public void blockingType() {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        @NoArgsConstructor(access = PRIVATE)
+        @Blocking
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foobar")
+            public String foobar() {
+                thread.set(Thread.currentThread());
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertNotEquals(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    public void customExecutor() {
+        AtomicInteger executionCount = new AtomicInteger(0);
+        Executor executor = command -> {
+            executionCount.incrementAndGet();
+            new Thread(command).start();
+        };
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Blocking
+            @FieldResolver("foobar")
+            public String foobar() {
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .blockingExecutor(executor)
+                .build();
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertEquals(1, executionCount.get());
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class MyType {
+
+        private final String name;
+
+    }
+
+    @Test
+    public void blockingBatched() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("myTypes")
+            public List<MyType> myTypes() {
+                return asList(new MyType("foo"), new MyType("bar"));
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Blocking
+            @Batched
+            @FieldResolver("name")
+            public Map<MyType, String> name(Set<MyType> myTypes) {
+                callCount.incrementAndGet();
+                thread.set(Thread.currentThread());
+                return myTypes
+                        .stream()
+                        .collect(toMap(
+                                identity(),
+                                myType -> myType.getName() + "bar"
+                        ));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("name"));
+        assertEquals("barbar", myTypes.get(1).get("name"));
+        assertEquals(1, callCount.get());
+        assertNotEquals(Thread.currentThread(), thread.get());
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.qudini.gom.Cancellation.newCancellation;
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static com.qudini.gom.utils.QueryRunner.callExpectingErrors;
+import static java.time.Duration.ofMillis;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class CancellationTest {
+
+    @Test
+    public void withCancellation() {
+        AtomicReference<Cancellation> received = new AtomicReference<>();
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foobar")
+            public String foobar(Cancellation cancellation) {
+                received.set(cancellation);
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .cancellation(Cancellation.class, identity())
+                .build();
+        Cancellation cancellation = newCancellation();
+        assertEquals("foobar", callExpectingData(gom, cancellation).get("foobar"));
+        assertSame(cancellation, received.get());
+    }
+
+    @Test
+    public void withoutCancellation() {
+        AtomicReference<Cancellation> received = new AtomicReference<>();
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foobar")
+            public String foobar(Cancellation cancellation) {
+                received.set(cancellation);
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertSame(Cancellation.none(), received.get());
+        assertFalse(received.get().isCancelled());
+    }
+
+    @Test
+    public void otherContext() {
+        AtomicReference<Cancellation> received = new AtomicReference<>();
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foobar")
+            public String foobar(Cancellation cancellation) {
+                received.set(cancellation);
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .cancellation(Cancellation.class, identity())
+                .build();
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertSame(Cancellation.none(), received.get());
+    }
+
+    @Test
+    public void cancelledBeforeInvocation() {
+        AtomicBoolean called = new AtomicBoolean(false);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foobar")
+            public String foobar() {
+                called.set(true);
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .cancellation(Cancellation.class, identity())
+                .build();
+        Cancellation cancellation = newCancellation();
+        cancellation.cancel();
+        assertFalse(callExpectingErrors(gom, () -> cancellation).isEmpty());
+        assertFalse(called.get());
+    }
+
+    @Test
+    public void deadlineCancelsFuture() {
+        AtomicReference<CompletableFuture<String>> future = new AtomicReference<>();
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("foobar")
+            public CompletableFuture<String> foobar() {
+                future.set(new CompletableFuture<>());
+                return future.get();
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .cancellation(Cancellation.class, identity())
+                .build();
+        Cancellation cancellation = newCancellation(ofMillis(100));
+        assertFalse(callExpectingErrors(gom, () -> cancellation).isEmpty());
+        assertTrue(future.get().isCancelled());
+        assertTrue(cancellation.isCancelled());
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class MyType {
+
+        private final String name;
+
+    }
+
+    @Test
+    public void cancelledBeforeBatch() {
+        AtomicBoolean called = new AtomicBoolean(false);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("myTypes")
+            public List<MyType> myTypes(Cancellation cancellation) {
+                cancellation.cancel();
+                return asList(new MyType("foo"), new MyType("bar"));
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Batched
+            @FieldResolver("name")
+            public Map<MyType, String> name(Set<MyType> myTypes) {
+                called.set(true);
+                return myTypes
+                        .stream()
+                        .collect(toMap(identity(), MyType::getName));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .cancellation(Cancellation.class, identity())
+                .build();
+        Cancellation cancellation = newCancellation();
+        assertFalse(callExpectingErrors(gom, () -> cancellation).isEmpty());
+        assertFalse(called.get());
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static com.qudini.gom.utils.QueryRunner.callExpectingErrors;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+public final class CircuitBreakerTest {
+
+    @Test
+    public void opensAfterFailures() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @CircuitBreaker(window = 4, minCalls = 2)
+            @FieldResolver("foobar")
+            public String foobar() {
+                callCount.incrementAndGet();
+                throw new IllegalStateException("foobar");
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        for (int i = 0; i < 5; i++) {
+            assertFalse(callExpectingErrors(gom, Context::new).isEmpty());
+        }
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    public void fallback() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        AtomicInteger fallbackCallCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @CircuitBreaker(window = 4, minCalls = 2, fallback = "foobarFallback")
+            @FieldResolver("foobar")
+            public String foobar() {
+                callCount.incrementAndGet();
+                throw new IllegalStateException("foobar");
+            }
+
+            public String foobarFallback() {
+                fallbackCallCount.incrementAndGet();
+                return "fallback";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        for (int i = 0; i < 5; i++) {
+            assertEquals("fallback", callExpectingData(gom, new Context()).get("foobar"));
+        }
+        assertEquals(2, callCount.get());
+        assertEquals(5, fallbackCallCount.get());
+    }
+
+    @Test
+    public void closesAfterOpenPeriod() throws InterruptedException {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @CircuitBreaker(window = 4, minCalls = 2, openFor = 50, unit = MILLISECONDS)
+            @FieldResolver("foobar")
+            public String foobar() {
+                if (callCount.incrementAndGet() <= 2) {
+                    throw new IllegalStateException("foobar");
+                }
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        for (int i = 0; i < 3; i++) {
+            assertFalse(callExpectingErrors(gom, Context::new).isEmpty());
+        }
+        Thread.sleep(100);
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertEquals(4, callCount.get());
+    }
+
+    @Test
+    public void cancelledTrialCall() throws InterruptedException {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @CircuitBreaker(window = 4, minCalls = 2, openFor = 50, unit = MILLISECONDS)
+            @FieldResolver("foobar")
+            public CompletableFuture<String> foobar() {
+                int call = callCount.incrementAndGet();
+                CompletableFuture<String> result = new CompletableFuture<>();
+                if (call <= 2) {
+                    result.completeExceptionally(new IllegalStateException("foobar"));
+                } else if (call == 3) {
+                    result.cancel(true);
+                } else {
+                    result.complete("foobar");
+                }
+                return result;
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        for (int i = 0; i < 3; i++) {
+            assertFalse(callExpectingErrors(gom, Context::new).isEmpty());
+        }
+        Thread.sleep(100);
+        assertFalse(callExpectingErrors(gom, Context::new).isEmpty());
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertEquals(4, callCount.get());
+    }
+
+    @Test
+    public void missingFallback() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @CircuitBreaker(fallback = "missing")
+            @FieldResolver("foobar")
+            public String foobar() {
+                return "foobar";
+            }
+
+        }
+        assertThrows(
+                IllegalStateException.class,
+                () -> newGom().resolvers(singletonList(new QueryResolver())).build()
+        );
+    }
+
+}
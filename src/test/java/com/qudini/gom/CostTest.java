@@ -0,0 +1,107 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import graphql.GraphQLError;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static com.qudini.gom.utils.QueryRunner.callExpectingErrors;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class CostTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class MyType {
+
+        private final String name;
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("Query")
+    public static final class QueryResolver {
+
+        @Cost(value = 5, multiplierArgument = "first")
+        @FieldResolver("myTypes")
+        public List<MyType> myTypes() {
+            return asList(new MyType("foo"), new MyType("bar"));
+        }
+
+    }
+
+    @Test
+    public void underBudget() {
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        List<?> myTypes = (List<?>) callExpectingData(gom, new Context(), gom.newCostInstrumentation(60)).get("myTypes");
+        assertEquals(2, myTypes.size());
+    }
+
+    @Test
+    public void overBudget() {
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertFalse(callExpectingErrors(gom, Context::new, gom.newCostInstrumentation(59)).isEmpty());
+    }
+
+    @Test
+    public void budgetExceededWithoutAborting() {
+        AtomicInteger cost = new AtomicInteger(0);
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        List<?> myTypes = (List<?>) callExpectingData(gom, new Context(), gom.newCostInstrumentation(59, info -> {
+            cost.set(info.getComplexity());
+            return false;
+        })).get("myTypes");
+        assertEquals(2, myTypes.size());
+        assertEquals(60, cost.get());
+    }
+
+    @Test
+    public void hugeMultiplier() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Cost(value = 1, multiplierArgument = "first")
+            @FieldResolver("children")
+            public List<MyType> children(MyType myType) {
+                return singletonList(new MyType(myType.getName() + "child"));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<GraphQLError> errors = callExpectingErrors(gom, Context::new, gom.newCostInstrumentation(1000));
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage().contains("complexity"));
+    }
+
+    @Test
+    public void aliasedHugeMultipliers() {
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        List<GraphQLError> errors = callExpectingErrors(gom, Context::new, gom.newCostInstrumentation(1000));
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage().contains("complexity"));
+    }
+
+}
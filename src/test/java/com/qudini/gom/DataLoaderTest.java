@@ -1,9 +1,11 @@
 package com.qudini.gom;
 
 import com.qudini.gom.utils.Context;
+import graphql.ExecutionResult;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import org.dataloader.Try;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -16,7 +18,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static com.qudini.gom.Gom.newGom;
 import static com.qudini.gom.utils.QueryRunner.callExpectingData;
 import static com.qudini.gom.utils.QueryRunner.callExpectingErrors;
+import static com.qudini.gom.utils.QueryRunner.callExpectingPartialData;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static lombok.AccessLevel.PRIVATE;
@@ -379,6 +383,134 @@ public final class DataLoaderTest {
         assertEquals(1, count.get());
     }
 
+    @Test
+    public void sameByInputArguments() {
+        AtomicInteger count = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Batched
+            @FieldResolver("name")
+            public Map<MyType, String> name(Set<MyType> myTypes, Arguments arguments) {
+                count.incrementAndGet();
+                return myTypes
+                        .stream()
+                        .collect(toMap(
+                                identity(),
+                                myType -> myType.getName() + arguments.getInput("suffix").getInputArray("parts").get(0).get("value")
+                        ));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(true), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("nameWithSuffix1"));
+        assertEquals("foobar", myTypes.get(0).get("nameWithSuffix2"));
+        assertEquals("barbar", myTypes.get(1).get("nameWithSuffix1"));
+        assertEquals("barbar", myTypes.get(1).get("nameWithSuffix2"));
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void rootByArguments() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class MyQueryResolver {
+
+            @Batched
+            @FieldResolver("myType")
+            public Map<Arguments, MyType> myType(Set<Arguments> argumentsSet) {
+                callCount.incrementAndGet();
+                assertEquals(2, argumentsSet.size());
+                return argumentsSet
+                        .stream()
+                        .collect(toMap(
+                                identity(),
+                                arguments -> new MyType(arguments.get("name"))
+                        ));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new MyQueryResolver()))
+                .build();
+        Map<String, ?> data = callExpectingData(gom, new Context());
+        assertEquals("foo", ((Map<String, Object>) data.get("foo1")).get("name"));
+        assertEquals("foo", ((Map<String, Object>) data.get("foo2")).get("name"));
+        assertEquals("bar", ((Map<String, Object>) data.get("bar")).get("name"));
+        assertEquals(1, callCount.get());
+    }
+
+    @Test
+    public void partialFailure() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Batched
+            @FieldResolver("name")
+            public Map<MyType, Try<String>> name(Set<MyType> myTypes) {
+                return myTypes
+                        .stream()
+                        .collect(toMap(
+                                identity(),
+                                myType -> "foo".equals(myType.getName())
+                                        ? Try.succeeded(myType.getName() + "bar")
+                                        : Try.failed(new IllegalArgumentException(myType.getName()))
+                        ));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(true), new MyTypeResolver()))
+                .build();
+        ExecutionResult result = callExpectingPartialData(gom, new Context());
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) result.<Map<String, Object>>getData().get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("name"));
+        assertNull(myTypes.get(1).get("name"));
+        assertEquals(1, result.getErrors().size());
+    }
+
+    @Test
+    public void partialFailureByArguments() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Batched
+            @FieldResolver("name")
+            public Map<MyType, String> name(Set<MyType> myTypes, Arguments arguments) {
+                callCount.incrementAndGet();
+                String suffix = arguments.get("suffix");
+                if ("baz".equals(suffix)) {
+                    throw new IllegalArgumentException(suffix);
+                }
+                return myTypes
+                        .stream()
+                        .collect(toMap(
+                                identity(),
+                                myType -> myType.getName() + suffix
+                        ));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(true), new MyTypeResolver()))
+                .build();
+        ExecutionResult result = callExpectingPartialData(gom, new Context());
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) result.<Map<String, Object>>getData().get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("nameWithSuffix1"));
+        assertNull(myTypes.get(0).get("nameWithSuffix2"));
+        assertEquals("barbar", myTypes.get(1).get("nameWithSuffix1"));
+        assertNull(myTypes.get(1).get("nameWithSuffix2"));
+        assertEquals(2, callCount.get());
+    }
+
     @Test
     public void distinctBySelection() {
         AtomicInteger callCount = new AtomicInteger(0);
@@ -419,6 +551,48 @@ public final class DataLoaderTest {
         assertEquals(2, callCount.get());
     }
 
+    @Test
+    public void mergedSelections() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @RequiredArgsConstructor(access = PRIVATE)
+        @Getter
+        final class MyName {
+
+            private final int id;
+
+            private final String value;
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Batched(mergeSelections = true)
+            @FieldResolver("name")
+            public Map<MyType, MyName> name(Set<MyType> myTypes, Selection selection) {
+                callCount.incrementAndGet();
+                assertTrue(selection.contains("id"));
+                assertTrue(selection.contains("value"));
+                return myTypes
+                        .stream()
+                        .collect(toMap(
+                                identity(),
+                                myType -> new MyName(1, myType.getName())
+                        ));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(true), new MyTypeResolver()))
+                .build();
+        List<Map<String, Map<String, Object>>> myTypes = (List<Map<String, Map<String, Object>>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals(1, myTypes.get(0).get("nameId").get("id"));
+        assertNull(myTypes.get(0).get("nameId").get("value"));
+        assertNull(myTypes.get(1).get("nameValue").get("id"));
+        assertEquals("bar", myTypes.get(1).get("nameValue").get("value"));
+        assertEquals(1, callCount.get());
+    }
+
     @Test
     public void sameBySelection() {
         AtomicInteger callCount = new AtomicInteger(0);
@@ -0,0 +1,78 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+
+public final class HedgeTest {
+
+    @Test
+    public void hedged() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Hedge(after = 50, minSamples = 5)
+            @FieldResolver("foobar")
+            public CompletableFuture<String> foobar() {
+                return callCount.incrementAndGet() == 6
+                        ? new CompletableFuture<>()
+                        : completedFuture("foobar");
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        for (int i = 0; i < 6; i++) {
+            assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        }
+        assertEquals(7, callCount.get());
+    }
+
+    @Test
+    public void notHedgedWithoutEnoughSamples() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Hedge(minSamples = 5)
+            @FieldResolver("foobar")
+            public CompletableFuture<String> foobar() {
+                callCount.incrementAndGet();
+                return completedFuture("foobar");
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        for (int i = 0; i < 5; i++) {
+            assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        }
+        assertEquals(5, callCount.get());
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 1000).forEach(i -> histogram.record(i * 1000L));
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_000, histogram.getPercentile(50), 500_000 / 16);
+        assertEquals(990_000, histogram.getPercentile(99), 990_000 / 16);
+    }
+
+}
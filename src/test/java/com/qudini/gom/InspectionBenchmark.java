@@ -0,0 +1,132 @@
+package com.qudini.gom;
+
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.qudini.gom.Gom.newGom;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static lombok.AccessLevel.PRIVATE;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InspectionBenchmark {
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("Query")
+    public static final class QueryResolver {
+
+        @FieldResolver("a")
+        public String a(Arguments arguments) {
+            return "a";
+        }
+
+        @FieldResolver("b")
+        public String b(Selection selection) {
+            return "b";
+        }
+
+        @Blocking
+        @FieldResolver("c")
+        public String c() {
+            return "c";
+        }
+
+        @Memoize
+        @FieldResolver("d")
+        public String d() {
+            return "d";
+        }
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("MyType")
+    public static final class MyTypeResolver {
+
+        @FieldResolver("a")
+        public String a(Object myType) {
+            return "a";
+        }
+
+        @Batched
+        @FieldResolver("b")
+        public Map<Object, String> b(Set<Object> myTypes, Arguments arguments) {
+            return emptyMap();
+        }
+
+        @Batched
+        @Retry
+        @FieldResolver("c")
+        public Map<Object, String> c(Set<Object> myTypes, Selection selection) {
+            return emptyMap();
+        }
+
+        @AutoBatch
+        @FieldResolver("d")
+        public String d(Object myType) {
+            return "d";
+        }
+
+    }
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+
+    private List<Object> resolvers;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        resolvers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            resolvers.add(new QueryResolver());
+            resolvers.add(new MyTypeResolver());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Gom build() throws ExecutionException, InterruptedException {
+        return pool.submit(() -> newGom().resolvers(resolvers).build()).get();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InspectionBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.util.Arrays.asList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+
+public final class MemoizeTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    @EqualsAndHashCode
+    public static final class MyType {
+
+        private final String name;
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("Query")
+    public static final class QueryResolver {
+
+        private final MyType bar = new MyType("bar");
+
+        @FieldResolver("myTypes")
+        public List<MyType> myTypes() {
+            return asList(new MyType("foo"), new MyType("foo"), bar, bar);
+        }
+
+    }
+
+    @Test
+    public void byEquality() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Memoize
+            @FieldResolver("name")
+            public String name(MyType myType) {
+                callCount.incrementAndGet();
+                return myType.getName() + "bar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("name"));
+        assertEquals("foobar", myTypes.get(1).get("name"));
+        assertEquals("barbar", myTypes.get(2).get("name"));
+        assertEquals("barbar", myTypes.get(3).get("name"));
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    public void byIdentity() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Memoize(identity = true)
+            @FieldResolver("name")
+            public String name(MyType myType) {
+                callCount.incrementAndGet();
+                return myType.getName() + "bar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foobar", myTypes.get(1).get("name"));
+        assertEquals("barbar", myTypes.get(3).get("name"));
+        assertEquals(3, callCount.get());
+    }
+
+    @Test
+    public void byArguments() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Memoize
+            @FieldResolver("name")
+            public String name(MyType myType, Arguments arguments) {
+                callCount.incrementAndGet();
+                return myType.getName() + arguments.get("suffix");
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals("foobar", myTypes.get(0).get("nameWithSuffix1"));
+        assertEquals("foobaz", myTypes.get(0).get("nameWithSuffix2"));
+        assertEquals("barbaz", myTypes.get(3).get("nameWithSuffix2"));
+        assertEquals(4, callCount.get());
+    }
+
+    @Test
+    public void stream() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Memoize
+            @FieldResolver("tags")
+            public Stream<String> tags(MyType myType) {
+                callCount.incrementAndGet();
+                return Stream.of(myType.getName(), myType.getName() + "bar");
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build();
+        List<Map<String, Object>> myTypes = (List<Map<String, Object>>) callExpectingData(gom, new Context()).get("myTypes");
+        assertEquals(asList("foo", "foobar"), myTypes.get(0).get("tags"));
+        assertEquals(asList("foo", "foobar"), myTypes.get(1).get("tags"));
+        assertEquals(asList("bar", "barbar"), myTypes.get(2).get("tags"));
+        assertEquals(asList("bar", "barbar"), myTypes.get(3).get("tags"));
+        assertEquals(2, callCount.get());
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.util.Arrays.asList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class NPlusOneDetectorTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @Getter
+    public static final class MyType {
+
+        private final String name;
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("Query")
+    public static final class QueryResolver {
+
+        @FieldResolver("myTypes")
+        public List<MyType> myTypes() {
+            return asList(new MyType("foo"), new MyType("bar"), new MyType("baz"));
+        }
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("MyType")
+    public static final class SimpleMyTypeResolver {
+
+        @FieldResolver("name")
+        public String name(MyType myType) {
+            return myType.getName();
+        }
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("MyType")
+    public static final class BatchedMyTypeResolver {
+
+        @Batched
+        @FieldResolver("name")
+        public Map<MyType, String> name(Set<MyType> myTypes) {
+            return myTypes
+                    .stream()
+                    .collect(toMap(identity(), MyType::getName));
+        }
+
+    }
+
+    @Test
+    public void thresholdReached() {
+        List<NPlusOneReport> reports = new CopyOnWriteArrayList<>();
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new SimpleMyTypeResolver()))
+                .build();
+        callExpectingData(gom, new Context(), gom.newNPlusOneDetector(3, 1, reports::add));
+        assertEquals(1, reports.size());
+        NPlusOneReport report = reports.get(0);
+        assertEquals("MyType", report.getTypeName());
+        assertEquals("name", report.getFieldName());
+        assertEquals("/myTypes", report.getParentPath());
+        assertEquals(3, report.getCount());
+        assertTrue(report.getTotalTime().toNanos() > 0);
+    }
+
+    @Test
+    public void thresholdNotReached() {
+        List<NPlusOneReport> reports = new CopyOnWriteArrayList<>();
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new SimpleMyTypeResolver()))
+                .build();
+        callExpectingData(gom, new Context(), gom.newNPlusOneDetector(4, 1, reports::add));
+        assertTrue(reports.isEmpty());
+    }
+
+    @Test
+    public void batchedIgnored() {
+        List<NPlusOneReport> reports = new CopyOnWriteArrayList<>();
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new BatchedMyTypeResolver()))
+                .build();
+        callExpectingData(gom, new Context(), gom.newNPlusOneDetector(1, 1, reports::add));
+        assertTrue(reports.isEmpty());
+    }
+
+    @Test
+    public void notSampled() {
+        List<NPlusOneReport> reports = new CopyOnWriteArrayList<>();
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new SimpleMyTypeResolver()))
+                .build();
+        callExpectingData(gom, new Context(), gom.newNPlusOneDetector(1, 0, reports::add));
+        assertTrue(reports.isEmpty());
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.qudini.gom;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qudini.gom.utils.Context;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.json.JSONException;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PaginationTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class Article {
+
+        private final int id;
+
+        private final String title;
+
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class Blog {
+
+        private final int id;
+
+    }
+
+    private static final List<Article> ARTICLES = IntStream
+            .rangeClosed(1, 5)
+            .mapToObj(id -> new Article(id, "article" + id))
+            .collect(toList());
+
+    private static List<Article> fetch(Pagination pagination) {
+        int cursor = pagination.getCursor().map(Integer::parseInt).orElse(pagination.isBackward() ? Integer.MAX_VALUE : 0);
+        return ARTICLES
+                .stream()
+                .filter(article -> pagination.isBackward() ? article.id < cursor : article.id > cursor)
+                .sorted(pagination.isBackward() ? Comparator.<Article>comparingInt(article -> article.id).reversed() : Comparator.comparingInt(article -> article.id))
+                .limit(pagination.getFetchSize())
+                .collect(toList());
+    }
+
+    private static String toCursor(Article article) {
+        return String.valueOf(article.id);
+    }
+
+    @Test
+    public void forward() throws JSONException, JsonProcessingException {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("articles")
+            public Connection<Article> articles(Pagination pagination) {
+                assertTrue(pagination.isTotalCountRequested());
+                assertTrue(pagination.isPageInfoRequested());
+                return Connection
+                        .of(fetch(pagination), pagination, PaginationTest::toCursor)
+                        .withTotalCount(ARTICLES::size);
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        Map<String, ?> data = callExpectingData(gom, new Context());
+        JSONAssert.assertEquals(
+                "{articles: {" +
+                        "edges: [{cursor: '2', node: {title: 'article2'}}, {cursor: '3', node: {title: 'article3'}}]," +
+                        "pageInfo: {hasNextPage: true, hasPreviousPage: true, startCursor: '2', endCursor: '3'}," +
+                        "totalCount: 5" +
+                        "}}",
+                new ObjectMapper().writeValueAsString(data),
+                true
+        );
+    }
+
+    @Test
+    public void backward() throws JSONException, JsonProcessingException {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("articles")
+            public Connection<Article> articles(@Paginated(defaultSize = 1) Pagination pagination) {
+                assertFalse(pagination.isTotalCountRequested());
+                return Connection.of(fetch(pagination), pagination, PaginationTest::toCursor);
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        Map<String, ?> data = callExpectingData(gom, new Context());
+        JSONAssert.assertEquals(
+                "{articles: {" +
+                        "edges: [{cursor: '2', node: {title: 'article2'}}, {cursor: '3', node: {title: 'article3'}}]," +
+                        "pageInfo: {hasNextPage: true, hasPreviousPage: true, startCursor: '2', endCursor: '3'}" +
+                        "}}",
+                new ObjectMapper().writeValueAsString(data),
+                true
+        );
+    }
+
+    @Test
+    public void batched() throws JSONException, JsonProcessingException {
+        AtomicInteger invocations = new AtomicInteger(0);
+        AtomicInteger counts = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("blogs")
+            public List<Blog> blogs() {
+                return asList(new Blog(1), new Blog(2));
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Blog")
+        final class BlogResolver {
+
+            @Batched
+            @FieldResolver("articles")
+            public Map<Blog, Connection<Article>> articles(Set<Blog> blogs, @Paginated(maxSize = 3) Pagination pagination) {
+                invocations.incrementAndGet();
+                assertEquals(1, pagination.getSize());
+                return blogs
+                        .stream()
+                        .collect(toMap(identity(), blog -> Connection
+                                .of(fetch(pagination), pagination, PaginationTest::toCursor)
+                                .map(article -> new Article(article.id, "blog" + blog.id + "/" + article.title))
+                                .withTotalCount(() -> counts.incrementAndGet())));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new BlogResolver()))
+                .build();
+        Map<String, ?> data = callExpectingData(gom, new Context());
+        JSONAssert.assertEquals(
+                "{blogs: [" +
+                        "{id: 1, articles: {edges: [{node: {title: 'blog1/article1'}}]}}," +
+                        "{id: 2, articles: {edges: [{node: {title: 'blog2/article1'}}]}}" +
+                        "]}",
+                new ObjectMapper().writeValueAsString(data),
+                true
+        );
+        assertEquals(1, invocations.get());
+        assertEquals(0, counts.get());
+    }
+
+}
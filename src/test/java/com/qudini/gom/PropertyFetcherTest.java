@@ -0,0 +1,133 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Observable;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+
+public final class PropertyFetcherTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static class MyType {
+
+        private final String name;
+
+        private final boolean active;
+
+        private final int count;
+
+        public String getLabel() {
+            return "label:" + name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+    }
+
+    public static final class MySubType extends MyType {
+
+        private MySubType(String name) {
+            super(name, false, 2);
+        }
+
+    }
+
+    public static final class MyObservableType extends Observable {
+
+        private final String name = "foo";
+
+    }
+
+    @Test
+    public void compiled() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("myTypes")
+            public List<MyType> myTypes() {
+                return asList(new MyType("foo", true, 1), new MySubType("bar"));
+            }
+
+            @FieldResolver("others")
+            public List<Map<String, Object>> others() {
+                Map<String, Object> other = new HashMap<>();
+                other.put("name", "baz");
+                other.put("label", "label:baz");
+                other.put("active", true);
+                other.put("Count", 3);
+                return singletonList(other);
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @FieldResolver("doubleCount")
+            public int doubleCount(MyType myType) {
+                return myType.getCount() * 2;
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .compiledPropertyFetchers(true)
+                .build();
+        Map<String, ?> data = callExpectingData(gom, new Context());
+        assertEquals(
+                asList(
+                        myType("foo", "label:foo", true, 1, 2),
+                        myType("bar", "label:bar", false, 2, 4)
+                ),
+                data.get("myTypes")
+        );
+        Map<String, Object> other = myType("baz", "label:baz", true, 3, 0);
+        other.remove("doubleCount");
+        assertEquals(singletonList(other), data.get("others"));
+    }
+
+    @Test
+    public void jdkSuperclass() {
+        assertEquals(singleton("name"), PropertyFetcher.of(singleton(MyObservableType.class), property -> true).keySet());
+    }
+
+    @Test
+    public void schemaFieldsOnly() {
+        assertEquals(
+                new HashSet<>(asList("name", "label")),
+                PropertyFetcher.of(singleton(MyType.class), asList("name", "label", "unknown")::contains).keySet()
+        );
+    }
+
+    private static Map<String, Object> myType(String name, String label, boolean active, int count, int doubleCount) {
+        Map<String, Object> myType = new HashMap<>();
+        myType.put("name", name);
+        myType.put("label", label);
+        myType.put("active", active);
+        myType.put("Count", count);
+        myType.put("doubleCount", doubleCount);
+        return myType;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.qudini.gom;
+
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.qudini.gom.Converters.newConverters;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+
+public final class ResolverInspectionTest {
+
+    @Test
+    public void deterministicOrder() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Foo")
+        final class FooResolver {
+
+            @FieldResolver("c")
+            public String c() {
+                return "c";
+            }
+
+            @FieldResolver("a")
+            public String a() {
+                return "a";
+            }
+
+            @FieldResolver("b")
+            public String b() {
+                return "b";
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Bar")
+        final class BarResolver {
+
+            @FieldResolver("y")
+            public String y() {
+                return "y";
+            }
+
+            @FieldResolver("x")
+            public String x() {
+                return "x";
+            }
+
+        }
+        List<Object> resolvers = new ArrayList<>();
+        List<String> expectedFields = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            resolvers.add(new FooResolver());
+            expectedFields.addAll(asList("Foo.a", "Foo.b", "Foo.c"));
+            resolvers.add(new BarResolver());
+            expectedFields.addAll(asList("Bar.x", "Bar.y"));
+        }
+        Executor executor = Runnable::run;
+        ResolverInspection inspection = ResolverInspection.inspect(
+                resolvers,
+                newConverters(Object.class).build(),
+                executor,
+                context -> Cancellation.none(),
+                null,
+                "Subscription",
+                null
+        );
+        assertEquals(
+                expectedFields,
+                inspection
+                        .getFieldWirings()
+                        .stream()
+                        .map(fieldWiring -> fieldWiring.getTypeName() + "." + fieldWiring.getFieldName())
+                        .collect(toList())
+        );
+    }
+
+}
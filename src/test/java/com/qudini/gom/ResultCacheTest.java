@@ -0,0 +1,296 @@
+package com.qudini.gom;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qudini.gom.utils.Context;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.json.JSONException;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.ResultCaches.javaSerializer;
+import static com.qudini.gom.ResultCaches.newOffHeapCache;
+import static com.qudini.gom.ResultCaches.newOnHeapCache;
+import static com.qudini.gom.ResultCaches.newPersistentCache;
+import static com.qudini.gom.ResultCaches.newTieredCache;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class ResultCacheTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class Article implements Serializable {
+
+        private final int id;
+
+        private final String title;
+
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    @EqualsAndHashCode
+    public static final class Blog {
+
+        private final int id;
+
+    }
+
+    @Test
+    public void tiered() throws JSONException, JsonProcessingException {
+        AtomicInteger invocations = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Cached
+            @FieldResolver("articles")
+            public Stream<Article> articles(Arguments arguments) {
+                invocations.incrementAndGet();
+                return IntStream
+                        .rangeClosed(1, arguments.<Integer>get("first"))
+                        .mapToObj(id -> new Article(id, "article" + id));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .resultCache(newTieredCache(newOnHeapCache(1), newOffHeapCache(1024 * 1024, 64 * 1024, javaSerializer())))
+                .build();
+        String expected = "{articles: [{id: 1, title: 'article1'}, {id: 2, title: 'article2'}]}";
+        JSONAssert.assertEquals(expected, new ObjectMapper().writeValueAsString(callExpectingData(gom, new Context())), true);
+        JSONAssert.assertEquals(expected, new ObjectMapper().writeValueAsString(callExpectingData(gom, new Context())), true);
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void batched() throws JSONException, JsonProcessingException {
+        AtomicInteger loadedBlogs = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("blogs")
+            public List<Blog> blogs() {
+                return asList(new Blog(1), new Blog(2));
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Blog")
+        final class BlogResolver {
+
+            @Cached
+            @Batched
+            @FieldResolver("title")
+            public Map<Blog, String> title(Set<Blog> blogs) {
+                loadedBlogs.addAndGet(blogs.size());
+                return blogs
+                        .stream()
+                        .collect(toMap(identity(), blog -> "blog" + blog.id));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new BlogResolver()))
+                .resultCache(newOnHeapCache(100))
+                .build();
+        String expected = "{blogs: [{id: 1, title: 'blog1'}, {id: 2, title: 'blog2'}]}";
+        JSONAssert.assertEquals(expected, new ObjectMapper().writeValueAsString(callExpectingData(gom, new Context())), true);
+        JSONAssert.assertEquals(expected, new ObjectMapper().writeValueAsString(callExpectingData(gom, new Context())), true);
+        assertEquals(2, loadedBlogs.get());
+    }
+
+    @Test
+    public void failingCache() throws JSONException, JsonProcessingException {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Cached
+            @FieldResolver("articles")
+            public List<Article> articles(Arguments arguments) {
+                return singletonList(new Article(1, "article1"));
+            }
+
+            @FieldResolver("blogs")
+            public List<Blog> blogs() {
+                return asList(new Blog(1), new Blog(2));
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Blog")
+        final class BlogResolver {
+
+            @Cached
+            @Batched
+            @FieldResolver("title")
+            public Map<Blog, String> title(Set<Blog> blogs) {
+                return blogs
+                        .stream()
+                        .collect(toMap(identity(), blog -> "blog" + blog.id));
+            }
+
+        }
+        ResultCache failingCache = new ResultCache() {
+
+            @Override
+            public Object get(Object key) {
+                throw new IllegalStateException("get");
+            }
+
+            @Override
+            public void put(Object key, Object value) {
+                throw new IllegalStateException("put");
+            }
+
+        };
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new BlogResolver()))
+                .resultCache(failingCache)
+                .build();
+        JSONAssert.assertEquals(
+                "{articles: [{id: 1, title: 'article1'}], blogs: [{id: 1, title: 'blog1'}, {id: 2, title: 'blog2'}]}",
+                new ObjectMapper().writeValueAsString(callExpectingData(gom, new Context())),
+                true
+        );
+    }
+
+    @Test
+    public void persistent() throws Exception {
+        AtomicInteger invocations = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Cached
+            @FieldResolver("articles")
+            public List<Article> articles(Arguments arguments) {
+                invocations.incrementAndGet();
+                return IntStream
+                        .rangeClosed(1, arguments.<Integer>get("first"))
+                        .mapToObj(id -> new Article(id, "article" + id))
+                        .collect(toList());
+            }
+
+        }
+        Path cachePath = Files.createTempDirectory("gom").resolve("results.cache");
+        String expected = "{articles: [{id: 1, title: 'article1'}, {id: 2, title: 'article2'}]}";
+        for (int restart = 0; restart < 2; restart++) {
+            Gom gom = newGom()
+                    .resolvers(singletonList(new QueryResolver()))
+                    .resultCache(newPersistentCache(cachePath, 64 * 1024, Duration.ofHours(1), javaSerializer()))
+                    .build();
+            JSONAssert.assertEquals(expected, new ObjectMapper().writeValueAsString(callExpectingData(gom, new Context())), true);
+        }
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void persistentExpiryAndCompaction() throws Exception {
+        AtomicLong now = new AtomicLong(0);
+        Path cachePath = Files.createTempFile("gom", ".cache");
+        ResultCache cache = new PersistentResultCache(cachePath, 1024, Duration.ofMillis(200), javaSerializer(), now::get);
+        for (int i = 0; i < 100; i++) {
+            cache.put("key", "value" + i);
+        }
+        cache.put("otherKey", "otherValue");
+        assertEquals("value99", cache.get("key"));
+        ResultCache reloadedCache = new PersistentResultCache(cachePath, 1024, Duration.ofMillis(200), javaSerializer(), now::get);
+        assertEquals("value99", reloadedCache.get("key"));
+        assertEquals("otherValue", reloadedCache.get("otherKey"));
+        now.addAndGet(200);
+        assertNull(new PersistentResultCache(cachePath, 1024, Duration.ofMillis(200), javaSerializer(), now::get).get("key"));
+        Files.write(cachePath, new byte[]{1, 2, 3});
+        assertNull(new PersistentResultCache(cachePath, 1024, Duration.ofMillis(200), javaSerializer(), now::get).get("key"));
+    }
+
+    @Test
+    public void persistentEviction() throws Exception {
+        Path cachePath = Files.createTempFile("gom", ".cache");
+        ResultCache cache = newPersistentCache(cachePath, 1024, Duration.ofHours(1), javaSerializer());
+        for (int i = 0; i < 100; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        assertNull(cache.get("key0"));
+        assertEquals("value98", cache.get("key98"));
+        assertEquals("value99", cache.get("key99"));
+        cache.put("tooLarge", new byte[1024]);
+        assertNull(cache.get("tooLarge"));
+        assertEquals("value99", cache.get("key99"));
+    }
+
+    @Test
+    public void slabRecycling() {
+        ResultSerializer serializer = new ResultSerializer() {
+
+            @Nonnull
+            @Override
+            public byte[] serialize(Object value) {
+                return ((String) value).getBytes(UTF_8);
+            }
+
+            @Nonnull
+            @Override
+            public Object deserialize(byte[] bytes) {
+                return new String(bytes, UTF_8);
+            }
+
+        };
+        ResultCache cache = newOffHeapCache(16, 8, serializer);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.put("c", "cccc");
+        assertEquals("aaaa", cache.get("a"));
+        assertEquals("cccc", cache.get("c"));
+        cache.put("d", "dddd");
+        cache.put("e", "eeee");
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("cccc", cache.get("c"));
+        assertEquals("eeee", cache.get("e"));
+        cache.put("c", "too large to fit");
+        assertNull(cache.get("c"));
+    }
+
+    @Test
+    public void offHeapKeysDontRetainSources() throws InterruptedException {
+        ResultCache cache = newOffHeapCache(1024, 1024, javaSerializer());
+        Article source = new Article(1, "article1");
+        WeakReference<Article> sourceReference = new WeakReference<>(source);
+        cache.put(singletonList(source), "value");
+        source = null;
+        for (int i = 0; i < 10 && sourceReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(sourceReference.get());
+        assertEquals("value", cache.get(singletonList(new Article(1, "article1"))));
+    }
+
+}
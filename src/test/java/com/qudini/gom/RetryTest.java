@@ -0,0 +1,93 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static com.qudini.gom.utils.QueryRunner.callExpectingErrors;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class RetryTest {
+
+    @Test
+    public void succeedsAfterRetries() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Retry(max = 2, backoff = 10)
+            @FieldResolver("foobar")
+            public String foobar() {
+                if (callCount.incrementAndGet() < 3) {
+                    throw new IllegalStateException("foobar");
+                }
+                return "foobar";
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertEquals(3, callCount.get());
+    }
+
+    @Test
+    public void failsAfterMaxRetries() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Retry(max = 2)
+            @FieldResolver("foobar")
+            public String foobar() {
+                callCount.incrementAndGet();
+                throw new IllegalStateException("foobar");
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertFalse(callExpectingErrors(gom, Context::new).isEmpty());
+        assertEquals(3, callCount.get());
+    }
+
+    @Test
+    public void batched() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @Batched
+            @Retry(max = 1)
+            @FieldResolver("foobar")
+            public Map<Arguments, String> foobar(Set<Arguments> argumentsSet) {
+                if (callCount.incrementAndGet() < 2) {
+                    throw new IllegalStateException("foobar");
+                }
+                return singletonMap(argumentsSet.iterator().next(), "foobar");
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        assertEquals("foobar", callExpectingData(gom, new Context()).get("foobar"));
+        assertEquals(2, callCount.get());
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.qudini.gom;
+
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.qudini.gom.Gom.newGom;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static lombok.AccessLevel.PRIVATE;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+/*
+ * The fingerprints are cached per class once computed, so fingerprint() measures what each resolver class costs on top of
+ * buildWithSnapshot() on a cold startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @NoArgsConstructor(access = PRIVATE)
+    public abstract static class BaseResolver {
+
+        @FieldResolver("name")
+        public String name(Object source) {
+            return "name";
+        }
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("Query")
+    public static final class QueryResolver {
+
+        @FieldResolver("a")
+        public Object a() {
+            return new Object();
+        }
+
+        @FieldResolver("b")
+        public String b(Arguments arguments) {
+            return "b";
+        }
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("MyType")
+    public static final class MyTypeResolver extends BaseResolver {
+
+        @Batched
+        @FieldResolver("a")
+        public Map<Object, String> a(Set<Object> myTypes) {
+            return emptyMap();
+        }
+
+        @AutoBatch
+        @FieldResolver("b")
+        public String b(Object myType) {
+            return "b";
+        }
+
+    }
+
+    private List<Object> resolvers;
+
+    private Path snapshotPath;
+
+    @Setup
+    public void setUp() throws IOException {
+        resolvers = new ArrayList<>();
+        resolvers.add(new QueryResolver());
+        resolvers.add(new MyTypeResolver());
+        snapshotPath = Files.createTempDirectory("gom").resolve("wiring.snapshot");
+        newGom().resolvers(resolvers).snapshot(snapshotPath).build();
+    }
+
+    @Benchmark
+    public Gom build() {
+        return newGom().resolvers(resolvers).build();
+    }
+
+    @Benchmark
+    public Gom buildWithSnapshot() {
+        return newGom().resolvers(resolvers).snapshot(snapshotPath).build();
+    }
+
+    @Benchmark
+    public void fingerprint(Blackhole blackhole) {
+        for (Object resolver : resolvers) {
+            blackhole.consume(WiringSnapshot.computeFingerprint(resolver.getClass()));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SnapshotBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+}
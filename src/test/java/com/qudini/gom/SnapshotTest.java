@@ -0,0 +1,120 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class SnapshotTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class MyType {
+
+        private final String name;
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("Query")
+    public static final class QueryResolver {
+
+        @FieldResolver("myType")
+        public MyType myType() {
+            return new MyType("foo");
+        }
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @TypeResolver("MyType")
+    public static final class MyTypeResolver {
+
+        @FieldResolver("upperCaseName")
+        public String upperCaseName(MyType myType) {
+            return myType.name.toUpperCase();
+        }
+
+    }
+
+    private static final Map<String, ?> EXPECTED_DATA = singletonMap("myType", singletonMap("upperCaseName", "FOO"));
+
+    private static Gom newGomWithSnapshot(Path snapshotPath) {
+        return newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .snapshot(snapshotPath)
+                .build();
+    }
+
+    private static List<String> getRestoredMethodNames(Path snapshotPath, Class<?> clazz) {
+        return WiringSnapshot
+                .read(snapshotPath)
+                .getAnnotatedMethods(clazz, x -> {
+                    throw new AssertionError(clazz + " should have been restored from the snapshot");
+                })
+                .stream()
+                .map(Method::getName)
+                .collect(toList());
+    }
+
+    @Test
+    public void reused() throws Exception {
+        Path snapshotPath = Files.createTempDirectory("gom").resolve("wiring.snapshot");
+        assertEquals(EXPECTED_DATA, callExpectingData(newGomWithSnapshot(snapshotPath), new Context()));
+        assertEquals(singletonList("myType"), getRestoredMethodNames(snapshotPath, QueryResolver.class));
+        assertEquals(singletonList("upperCaseName"), getRestoredMethodNames(snapshotPath, MyTypeResolver.class));
+        long lastModified = Files.getLastModifiedTime(snapshotPath).toMillis();
+        assertEquals(EXPECTED_DATA, callExpectingData(newGomWithSnapshot(snapshotPath), new Context()));
+        assertEquals(lastModified, Files.getLastModifiedTime(snapshotPath).toMillis());
+    }
+
+    @Test
+    public void invalidated() throws Exception {
+        Path snapshotPath = Files.createTempFile("gom", ".snapshot");
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(snapshotPath))) {
+            output.writeInt(WiringSnapshot.MAGIC);
+            output.writeInt(WiringSnapshot.VERSION);
+            output.writeInt(1);
+            output.writeUTF(MyTypeResolver.class.getName());
+            output.writeLong(0);
+            output.writeInt(1);
+            output.writeUTF(MyTypeResolver.class.getName());
+            output.writeUTF("unknown");
+            output.writeInt(0);
+        }
+        assertEquals(EXPECTED_DATA, callExpectingData(newGomWithSnapshot(snapshotPath), new Context()));
+        assertEquals(singletonList("upperCaseName"), getRestoredMethodNames(snapshotPath, MyTypeResolver.class));
+    }
+
+    @Test
+    public void corrupted() throws Exception {
+        Path snapshotPath = Files.createTempFile("gom", ".snapshot");
+        Files.write(snapshotPath, new byte[]{0x47, 0x4F, 0x4D});
+        assertEquals(EXPECTED_DATA, callExpectingData(newGomWithSnapshot(snapshotPath), new Context()));
+        assertEquals(singletonList("upperCaseName"), getRestoredMethodNames(snapshotPath, MyTypeResolver.class));
+    }
+
+    @Test
+    public void unwritable() throws Exception {
+        Path snapshotPath = Files.createTempFile("gom", ".file").resolve("wiring.snapshot");
+        assertEquals(EXPECTED_DATA, callExpectingData(newGomWithSnapshot(snapshotPath), new Context()));
+        assertFalse(Files.exists(snapshotPath));
+    }
+
+}
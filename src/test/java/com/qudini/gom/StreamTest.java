@@ -0,0 +1,140 @@
+package com.qudini.gom;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qudini.gom.utils.Context;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.json.JSONException;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingData;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class StreamTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class Blog {
+
+        private final int id;
+
+    }
+
+    @Test
+    public void stream() throws JSONException, JsonProcessingException {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("numbers")
+            public Stream<Integer> numbers() {
+                return IntStream
+                        .rangeClosed(1, 3)
+                        .boxed()
+                        .onClose(() -> closed.set(true));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        Map<String, ?> data = callExpectingData(gom, new Context());
+        JSONAssert.assertEquals("{numbers: [1, 2, 3]}", new ObjectMapper().writeValueAsString(data), true);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void iterator() throws JSONException, JsonProcessingException {
+        AtomicInteger pulled = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("numbers")
+            public Iterator<Integer> numbers() {
+                return new Iterator<Integer>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return pulled.get() < 3;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        return pulled.incrementAndGet();
+                    }
+
+                };
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new QueryResolver()))
+                .build();
+        Map<String, ?> data = callExpectingData(gom, new Context());
+        JSONAssert.assertEquals("{numbers: [1, 2, 3]}", new ObjectMapper().writeValueAsString(data), true);
+        assertEquals(3, pulled.get());
+    }
+
+    @Test
+    public void batched() throws JSONException, JsonProcessingException {
+        AtomicInteger closings = new AtomicInteger(0);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("blogs")
+            public List<Blog> blogs() {
+                return asList(new Blog(1), new Blog(2));
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Blog")
+        final class BlogResolver {
+
+            @Batched
+            @FieldResolver("articleIds")
+            public Map<Blog, Stream<Integer>> articleIds(Set<Blog> blogs) {
+                return blogs
+                        .stream()
+                        .collect(toMap(identity(), blog -> Stream
+                                .of(blog.id * 10 + 1, blog.id * 10 + 2)
+                                .onClose(closings::incrementAndGet)));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(asList(new QueryResolver(), new BlogResolver()))
+                .build();
+        Map<String, ?> data = callExpectingData(gom, new Context());
+        JSONAssert.assertEquals(
+                "{blogs: [" +
+                        "{id: 1, articleIds: [11, 12], otherArticleIds: [11, 12]}," +
+                        "{id: 2, articleIds: [21, 22], otherArticleIds: [21, 22]}" +
+                        "]}",
+                new ObjectMapper().writeValueAsString(data),
+                true
+        );
+        assertEquals(2, closings.get());
+    }
+
+}
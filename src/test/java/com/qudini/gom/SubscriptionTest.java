@@ -0,0 +1,259 @@
+package com.qudini.gom;
+
+import com.qudini.gom.utils.Context;
+import graphql.ExecutionResult;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.QueryRunner.callExpectingPublisher;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public final class SubscriptionTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class MyEvent {
+
+        private final String name;
+
+    }
+
+    private static final class CollectingSubscriber implements Subscriber<ExecutionResult> {
+
+        private final List<Object> events = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ExecutionResult result) {
+            assertTrue(result.getErrors().toString(), result.getErrors().isEmpty());
+            events.add(result.getData());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+    }
+
+    private static List<Object> expectedEvents(String... names) {
+        return Stream
+                .of(names)
+                .map(name -> singletonMap("events", singletonMap("name", name)))
+                .collect(toList());
+    }
+
+    @Test
+    public void stream() {
+        AtomicInteger pulledEvents = new AtomicInteger(0);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Subscription")
+        final class SubscriptionResolver {
+
+            @FieldResolver("events")
+            public Stream<MyEvent> events(Arguments arguments) {
+                String prefix = arguments.get("prefix");
+                return Stream
+                        .iterate(0, i -> i + 1)
+                        .peek(i -> pulledEvents.incrementAndGet())
+                        .map(i -> new MyEvent(prefix + i))
+                        .onClose(() -> closed.set(true));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new SubscriptionResolver()))
+                .build();
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        callExpectingPublisher(gom, new Context()).subscribe(subscriber);
+        assertEquals(0, pulledEvents.get());
+        subscriber.subscription.request(2);
+        assertEquals(expectedEvents("event0", "event1"), subscriber.events);
+        assertEquals(2, pulledEvents.get());
+        subscriber.subscription.request(1);
+        assertEquals(expectedEvents("event0", "event1", "event2"), subscriber.events);
+        assertEquals(3, pulledEvents.get());
+        subscriber.subscription.cancel();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void publisher() {
+        List<CompletableFuture<MyEvent>> events = asList(
+                new CompletableFuture<>(),
+                new CompletableFuture<>(),
+                new CompletableFuture<>()
+        );
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Subscription")
+        final class SubscriptionResolver {
+
+            @FieldResolver("events")
+            public Publisher<CompletableFuture<MyEvent>> events() {
+                return subscriber -> subscriber.onSubscribe(new Subscription() {
+
+                    private int emitted;
+
+                    @Override
+                    public void request(long n) {
+                        for (long i = 0; i < n && emitted < events.size(); i++) {
+                            subscriber.onNext(events.get(emitted++));
+                        }
+                        if (emitted == events.size()) {
+                            subscriber.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+
+                });
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new SubscriptionResolver()))
+                .build();
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        callExpectingPublisher(gom, new Context()).subscribe(subscriber);
+        subscriber.subscription.request(3);
+        events.get(2).complete(new MyEvent("event2"));
+        events.get(1).complete(new MyEvent("event1"));
+        assertTrue(subscriber.events.isEmpty());
+        assertFalse(subscriber.completed);
+        events.get(0).complete(new MyEvent("event0"));
+        assertEquals(expectedEvents("event0", "event1", "event2"), subscriber.events);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void customType() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Events")
+        final class EventsResolver {
+
+            @FieldResolver("events")
+            public Stream<MyEvent> events() {
+                return Stream.of(new MyEvent("event0"), new MyEvent("event1"));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new EventsResolver()))
+                .subscriptionType("Events")
+                .build();
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        callExpectingPublisher(gom, new Context()).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        assertEquals(expectedEvents("event0", "event1"), subscriber.events);
+    }
+
+    @Test
+    public void unsupportedAnnotation() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Subscription")
+        final class SubscriptionResolver {
+
+            @Blocking
+            @FieldResolver("events")
+            public Stream<MyEvent> events() {
+                return Stream.empty();
+            }
+
+        }
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> newGom()
+                        .resolvers(singletonList(new SubscriptionResolver()))
+                        .build()
+        );
+        String message = exception.getMessage();
+        assertTrue(message, message.contains("can't be annotated with @Blocking"));
+    }
+
+    @Test
+    public void cancelledBeforeSubscribing() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Subscription")
+        final class SubscriptionResolver {
+
+            @FieldResolver("events")
+            public Stream<MyEvent> events(Arguments arguments) {
+                return Stream
+                        .of(new MyEvent("event0"))
+                        .onClose(() -> closed.set(true));
+            }
+
+        }
+        Gom gom = newGom()
+                .resolvers(singletonList(new SubscriptionResolver()))
+                .cancellation(Cancellation.class, identity())
+                .build();
+        Cancellation cancellation = Cancellation.newCancellation();
+        Publisher<ExecutionResult> publisher = callExpectingPublisher(gom, cancellation);
+        cancellation.cancel();
+        List<String> signals = new ArrayList<>();
+        publisher.subscribe(new Subscriber<ExecutionResult>() {
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                signals.add("onSubscribe");
+            }
+
+            @Override
+            public void onNext(ExecutionResult result) {
+                signals.add("onNext");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                signals.add("onError");
+            }
+
+            @Override
+            public void onComplete() {
+                signals.add("onComplete");
+            }
+
+        });
+        assertEquals(asList("onSubscribe", "onError"), signals);
+        assertTrue(closed.get());
+    }
+
+}
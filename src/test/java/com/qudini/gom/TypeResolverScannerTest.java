@@ -0,0 +1,146 @@
+package com.qudini.gom;
+
+import com.qudini.gom.example.resolvers.QueryResolver;
+import com.qudini.gom.example.resolvers.fetching.ArticleResolverByFetching;
+import com.qudini.gom.example.resolvers.fetching.BlogResolverByFetching;
+import com.qudini.gom.example.resolvers.fetching.CommentResolverByFetching;
+import com.qudini.gom.example.resolvers.loading.ArticleResolverByLoading;
+import com.qudini.gom.example.resolvers.loading.BlogResolverByLoading;
+import com.qudini.gom.example.resolvers.loading.CommentResolverByLoading;
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class TypeResolverScannerTest {
+
+    private static final String PACKAGE_NAME = "com.qudini.gom.example";
+
+    private static final String PACKAGE_PATH = "com/qudini/gom/example";
+
+    private static final Set<Class<?>> RESOLVERS = new HashSet<>(asList(
+            QueryResolver.class,
+            ArticleResolverByFetching.class,
+            BlogResolverByFetching.class,
+            CommentResolverByFetching.class,
+            ArticleResolverByLoading.class,
+            BlogResolverByLoading.class,
+            CommentResolverByLoading.class
+    ));
+
+    private static final Set<String> RESOLVER_NAMES = RESOLVERS.stream().map(Class::getName).collect(toSet());
+
+    private static void compile(Path output, boolean indexing, String... classNames) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> sources = Stream
+                .of(classNames)
+                .map(className -> new SimpleJavaFileObject(URI.create("string:///indexed/" + className + ".java"), JavaFileObject.Kind.SOURCE) {
+
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return "package indexed; @com.qudini.gom.TypeResolver(\"" + className + "\") public class " + className + " {}";
+                    }
+
+                })
+                .collect(toList());
+        String classPath = Paths.get(TypeResolver.class.getProtectionDomain().getCodeSource().getLocation().getPath())
+                + File.pathSeparator
+                + output;
+        List<String> options = asList(
+                "-d", output.toString(),
+                "-classpath", classPath,
+                indexing ? "-processor" : "-proc:none",
+                indexing ? TypeResolverProcessor.class.getName() : "-nowarn"
+        );
+        assertTrue(compiler.getTask(null, null, null, options, null, sources).call());
+    }
+
+    private static Set<String> readIndex(Path output) throws IOException {
+        return Files
+                .readAllLines(output.resolve(TypeResolverScanner.INDEX))
+                .stream()
+                .filter(line -> !line.isEmpty())
+                .collect(toSet());
+    }
+
+    @Test
+    public void indexed() throws Exception {
+        assertEquals(RESOLVERS, TypeResolverScanner.scan(getClass().getClassLoader(), PACKAGE_NAME));
+        Path output = Files.createTempDirectory("gom");
+        compile(output, true, "Foo");
+        compile(output, false, "NotIndexed");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            // NotIndexed would be found by walking the directory, but the index of its root is trusted instead
+            assertEquals(
+                    singleton("indexed.Foo"),
+                    TypeResolverScanner.scan(classLoader, "indexed").stream().map(Class::getName).collect(toSet())
+            );
+        }
+    }
+
+    @Test
+    public void incrementalIndex() throws Exception {
+        Path output = Files.createTempDirectory("gom");
+        compile(output, true, "Foo", "Bar");
+        compile(output, true, "Baz");
+        assertEquals(new HashSet<>(asList("indexed.Foo", "indexed.Bar", "indexed.Baz")), readIndex(output));
+        Files.delete(output.resolve("indexed/Bar.class"));
+        compile(output, true, "Baz");
+        assertEquals(new HashSet<>(asList("indexed.Foo", "indexed.Baz")), readIndex(output));
+    }
+
+    @Test
+    public void scannedDirectory() throws Exception {
+        URL packageUrl = getClass().getClassLoader().getResource(PACKAGE_PATH);
+        assertEquals(RESOLVER_NAMES, new HashSet<>(TypeResolverScanner.scanClassNames(packageUrl, PACKAGE_PATH)));
+    }
+
+    @Test
+    public void scannedJar() throws Exception {
+        Path classes = Paths.get(getClass().getClassLoader().getResource(PACKAGE_PATH).toURI())
+                .getParent()
+                .getParent()
+                .getParent()
+                .getParent();
+        File jar = File.createTempFile("resolvers", ".jar");
+        jar.deleteOnExit();
+        try (
+                JarOutputStream output = new JarOutputStream(new FileOutputStream(jar));
+                Stream<Path> paths = Files.walk(classes.resolve(PACKAGE_PATH))
+        ) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                output.putNextEntry(new JarEntry(classes.relativize(path).toString().replace('\\', '/')));
+                output.write(Files.readAllBytes(path));
+                output.closeEntry();
+            }
+        }
+        URL packageUrl = new URL("jar:" + jar.toURI().toURL() + "!/" + PACKAGE_PATH);
+        assertEquals(RESOLVER_NAMES, new HashSet<>(TypeResolverScanner.scanClassNames(packageUrl, PACKAGE_PATH)));
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.qudini.gom;
+
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.qudini.gom.Gom.newGom;
+import static com.qudini.gom.utils.ResourceReader.readResource;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public final class ValidationTest {
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class MyType {
+
+        private final String name;
+
+    }
+
+    private static TypeDefinitionRegistry readSchema() {
+        return new SchemaParser().parse(readResource("/com/qudini/gom/ValidationTest.graphql"));
+    }
+
+    @Test
+    public void valid() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("myTypes")
+            public List<MyType> myTypes() {
+                return emptyList();
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Batched
+            @FieldResolver("nameWithSuffix")
+            public Map<MyType, String> nameWithSuffix(Set<MyType> myTypes, @Args("suffix") String suffix) {
+                return emptyMap();
+            }
+
+        }
+        newGom()
+                .resolvers(asList(new QueryResolver(), new MyTypeResolver()))
+                .build(readSchema());
+    }
+
+    @Test
+    public void invalid() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @FieldResolver("myTypes")
+            public List<MyType> myTypes(MyType myType) {
+                return emptyList();
+            }
+
+            @FieldResolver("unknown")
+            public String unknown() {
+                return "unknown";
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Batched
+            @FieldResolver("name")
+            public String name(Set<MyType> myTypes, @Args("unknown") String unknown) {
+                return "name";
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Unknown")
+        final class UnknownResolver {
+
+            @FieldResolver("unknown")
+            public String unknown() {
+                return "unknown";
+            }
+
+        }
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> newGom()
+                        .resolvers(asList(new QueryResolver(), new MyTypeResolver(), new UnknownResolver()))
+                        .build(readSchema())
+        );
+        String message = exception.getMessage();
+        assertTrue(message, message.contains("Unknown type 'Unknown'"));
+        assertTrue(message, message.contains("Unknown field 'Query.unknown'"));
+        assertTrue(message, message.contains("Unexpected source parameter"));
+        assertTrue(message, message.contains("Unexpected return type"));
+        assertTrue(message, message.contains("Unknown argument 'unknown' of 'MyType.name'"));
+        assertTrue(message, message.contains("Missing resolver for 'MyType.nameWithSuffix'"));
+    }
+
+    @Test
+    public void batchedByArgumentsOnNonRootType() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("MyType")
+        final class MyTypeResolver {
+
+            @Batched
+            @FieldResolver("nameWithSuffix")
+            public Map<Arguments, String> nameWithSuffix(Set<Arguments> arguments) {
+                return emptyMap();
+            }
+
+        }
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> newGom()
+                        .resolvers(asList(new MyTypeResolver()))
+                        .build(readSchema())
+        );
+        String message = exception.getMessage();
+        assertTrue(message, message.contains("Unexpected Set<Arguments> parameter"));
+    }
+
+    @Test
+    public void batchedOnRootType() {
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class QueryResolver {
+
+            @AutoBatch
+            @FieldResolver("myTypes")
+            public List<MyType> myTypes() {
+                return emptyList();
+            }
+
+        }
+        @NoArgsConstructor(access = PRIVATE)
+        @TypeResolver("Query")
+        final class BatchedQueryResolver {
+
+            @Batched
+            @FieldResolver("myTypes")
+            public Map<Object, List<MyType>> myTypes() {
+                return emptyMap();
+            }
+
+        }
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> newGom()
+                        .resolvers(asList(new QueryResolver(), new BatchedQueryResolver()))
+                        .build(readSchema())
+        );
+        String message = exception.getMessage();
+        assertTrue(message, message.contains("Unexpected @AutoBatch"));
+        assertTrue(message, message.contains("Missing Set<Arguments> parameter"));
+    }
+
+}
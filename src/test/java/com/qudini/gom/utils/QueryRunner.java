@@ -5,6 +5,9 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentation;
 import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
@@ -14,6 +17,7 @@ import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import lombok.NoArgsConstructor;
 import org.dataloader.DataLoaderRegistry;
+import org.reactivestreams.Publisher;
 
 import java.util.List;
 import java.util.Map;
@@ -25,14 +29,17 @@ import static graphql.ExecutionInput.newExecutionInput;
 import static graphql.GraphQL.newGraphQL;
 import static graphql.schema.idl.RuntimeWiring.newRuntimeWiring;
 import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
 import static lombok.AccessLevel.PRIVATE;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 @NoArgsConstructor(access = PRIVATE)
 public final class QueryRunner {
 
-    private static ExecutionResult call(Gom gom, Object context, GraphQLScalarType[] scalars) {
+    private static ExecutionResult call(Gom gom, Object context, Instrumentation instrumentation, GraphQLScalarType[] scalars) {
 
         StackTraceElement caller = currentThread().getStackTrace()[3];
         String testClassName;
@@ -73,7 +80,10 @@ public final class QueryRunner {
         }
 
         GraphQL graphQL = newGraphQL(graphQLSchema)
-                .instrumentation(new DataLoaderDispatcherInstrumentation())
+                .instrumentation(new ChainedInstrumentation(asList(
+                        new DataLoaderDispatcherInstrumentation(),
+                        instrumentation
+                )))
                 .build();
 
         try {
@@ -85,13 +95,38 @@ public final class QueryRunner {
     }
 
     public static Map<String, ?> callExpectingData(Gom gom, Object context, GraphQLScalarType... scalars) {
-        ExecutionResult result = call(gom, context, scalars);
+        ExecutionResult result = call(gom, context, SimpleInstrumentation.INSTANCE, scalars);
+        assertTrue(result.getErrors().toString(), result.getErrors().isEmpty());
+        return result.getData();
+    }
+
+    public static Map<String, ?> callExpectingData(Gom gom, Object context, Instrumentation instrumentation, GraphQLScalarType... scalars) {
+        ExecutionResult result = call(gom, context, instrumentation, scalars);
+        assertTrue(result.getErrors().toString(), result.getErrors().isEmpty());
+        return result.getData();
+    }
+
+    public static ExecutionResult callExpectingPartialData(Gom gom, Object context, GraphQLScalarType... scalars) {
+        ExecutionResult result = call(gom, context, SimpleInstrumentation.INSTANCE, scalars);
+        assertNotNull(result.getData());
+        assertFalse(result.getErrors().isEmpty());
+        return result;
+    }
+
+    public static Publisher<ExecutionResult> callExpectingPublisher(Gom gom, Object context, GraphQLScalarType... scalars) {
+        ExecutionResult result = call(gom, context, SimpleInstrumentation.INSTANCE, scalars);
         assertTrue(result.getErrors().toString(), result.getErrors().isEmpty());
         return result.getData();
     }
 
     public static List<GraphQLError> callExpectingErrors(Gom gom, Supplier<?> contextSupplier, GraphQLScalarType... scalars) {
-        ExecutionResult result = call(gom, contextSupplier, scalars);
+        ExecutionResult result = call(gom, contextSupplier.get(), SimpleInstrumentation.INSTANCE, scalars);
+        assertNull(result.getData());
+        return result.getErrors();
+    }
+
+    public static List<GraphQLError> callExpectingErrors(Gom gom, Supplier<?> contextSupplier, Instrumentation instrumentation, GraphQLScalarType... scalars) {
+        ExecutionResult result = call(gom, contextSupplier.get(), instrumentation, scalars);
         assertNull(result.getData());
         return result.getErrors();
     }